@@ -0,0 +1,140 @@
+package com.dataincloud.benchmarks;
+
+import com.dataincloud.api.Application;
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.profile.IProfileRepository;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.core.user.User;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Starts the application as the integration tests run it: on H2 with in-memory search, and on a throwaway MongoDB
+ * container for profiles. With {@code memory} it runs the memory profile instead, on an empty snapshot and without
+ * containers. {@link #seed} fills it with the same users, posts and profiles for every benchmark.
+ */
+final class BenchmarkApplication implements AutoCloseable {
+    static final int POSTS_PER_USER = 10;
+
+    private final MongoDBContainer mongo;
+    private final ConfigurableApplicationContext context;
+
+    record Fixture(int users, long firstUserId, long firstPostId) {
+        long randomUserId() {
+            return firstUserId + ThreadLocalRandom.current().nextInt(users);
+        }
+
+        long randomPostId() {
+            return firstPostId + ThreadLocalRandom.current().nextInt(users * POSTS_PER_USER);
+        }
+    }
+
+    private BenchmarkApplication(MongoDBContainer mongo, ConfigurableApplicationContext context) {
+        this.mongo = mongo;
+        this.context = context;
+    }
+
+    static BenchmarkApplication start(boolean memory) {
+        if (memory)
+            return new BenchmarkApplication(null, run(
+                    "--spring.profiles.active=memory",
+                    "--memory.snapshot.file=" + temporaryDirectory().resolve("memory-snapshot.json")));
+
+        MongoDBContainer mongo = new MongoDBContainer("mongo:latest").withExposedPorts(27017);
+        mongo.start();
+        return new BenchmarkApplication(mongo, run(
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=sa",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.flyway.locations=classpath:db/migration/sql,classpath:db/migration/{vendor}",
+                "--spring.data.mongodb.uri=" + mongo.getReplicaSetUrl()));
+    }
+
+    ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Creates {@code users} users with {@link #POSTS_PER_USER} posts and a profile each, through the repositories the
+     * application injects; ids of a batch are consecutive.
+     */
+    Fixture seed(int users) {
+        List<User> newUsers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            User user = new User();
+            user.setUsername("benchmark_user_" + i);
+            user.setBirthDate(Calendar.getInstance());
+            newUsers.add(user);
+        }
+        List<User> created = bean(IUserRepository.class).createAll(newUsers);
+
+        List<Post> newPosts = new ArrayList<>(users * POSTS_PER_USER);
+        for (User author : created) {
+            for (int i = 0; i < POSTS_PER_USER; i++) {
+                Post post = new Post();
+                post.setHeader("Header " + i);
+                post.setDescription("Description of the post number " + i);
+                post.setCreatedDate(Calendar.getInstance());
+                post.setUser(author);
+                newPosts.add(post);
+            }
+        }
+        long firstPostId = bean(IPostRepository.class).createAll(newPosts).get(0).getId();
+
+        IProfileRepository profileRepository = bean(IProfileRepository.class);
+        for (User author : created) {
+            Profile profile = new Profile();
+            profile.setUserId(author.getId());
+            profile.setFirstName("First");
+            profile.setLastName("Last");
+            profile.setBirthDate(LocalDate.of(2000, 1, 1));
+            profile.setTags(List.of(Profile.ProfileTags.BLOG));
+            profileRepository.create(profile);
+        }
+        return new Fixture(users, created.get(0).getId(), firstPostId);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        if (mongo != null)
+            mongo.stop();
+    }
+
+    private static ConfigurableApplicationContext run(String... arguments) {
+        List<String> common = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--search.posts.engine=memory",
+                "--search.users.engine=memory",
+                "--logging.level.root=WARN"));
+        common.addAll(List.of(arguments));
+        return new SpringApplicationBuilder(Application.class).run(common.toArray(String[]::new));
+    }
+
+    private static Path temporaryDirectory() {
+        try {
+            return Files.createTempDirectory("benchmark-memory");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.dataincloud.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Full MockMvc round trips through every controller: argument binding, validation, service, repositories and JSON
+ * rendering, without the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ControllerBenchmark {
+    @Param({"1000"})
+    private int users;
+
+    private BenchmarkApplication application;
+    private BenchmarkApplication.Fixture fixture;
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        application = BenchmarkApplication.start(false);
+        fixture = application.seed(users);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) application.context()).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        application.close();
+    }
+
+    private String perform(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request)
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @Benchmark
+    public String getUser() throws Exception {
+        return perform(get("/users/{id}", fixture.randomUserId()));
+    }
+
+    @Benchmark
+    public String getUserPage() throws Exception {
+        return perform(get("/users"));
+    }
+
+    @Benchmark
+    public String getUserPosts() throws Exception {
+        return perform(get("/users/{id}/posts", fixture.randomUserId()));
+    }
+
+    @Benchmark
+    public String getPost() throws Exception {
+        return perform(get("/posts/{id}", fixture.randomPostId()));
+    }
+
+    @Benchmark
+    public String getPostPage() throws Exception {
+        return perform(get("/posts"));
+    }
+
+    @Benchmark
+    public String createPost() throws Exception {
+        return perform(post("/posts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"header\":\"Benchmark header\",\"description\":\"Benchmark description\"}"));
+    }
+
+    @Benchmark
+    public String getProfile() throws Exception {
+        return perform(get("/users/{id}/profiles", fixture.randomUserId()));
+    }
+
+    @Benchmark
+    public String getProfilePage() throws Exception {
+        return perform(get("/users/profiles"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.dataincloud.benchmarks;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.core.user.User;
+import com.dataincloud.services.post.PostMapper;
+import com.dataincloud.services.post.dto.PostDto;
+import com.dataincloud.services.profile.ProfileMapper;
+import com.dataincloud.services.profile.dto.ProfileDto;
+import com.dataincloud.services.user.UserMapper;
+import com.dataincloud.services.user.dto.UserDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes and parses the dtos the endpoints return, with an ObjectMapper configured as Spring Boot configures it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+    @Param({"20"})
+    private int recentPosts;
+
+    private ObjectMapper objectMapper;
+
+    private PostDto post;
+    private UserDto user;
+    private ProfileDto profile;
+    private String postJson;
+    private String userJson;
+    private String profileJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        User author = new User();
+        author.setId(1L);
+        author.setUsername("benchmark_user");
+        author.setBirthDate(Calendar.getInstance());
+        author.setPostCount(recentPosts);
+
+        List<Post> posts = new ArrayList<>(recentPosts);
+        for (long i = 1; i <= recentPosts; i++) {
+            Post recent = new Post();
+            recent.setId(i);
+            recent.setHeader("Header " + i);
+            recent.setDescription("Description of the post number " + i);
+            recent.setCreatedDate(Calendar.getInstance());
+            recent.setUser(author);
+            posts.add(recent);
+        }
+        author.setRecentPosts(posts);
+
+        Profile authorProfile = new Profile();
+        authorProfile.setUserId(1L);
+        authorProfile.setFirstName("First");
+        authorProfile.setLastName("Last");
+        authorProfile.setBirthDate(LocalDate.of(2000, 1, 1));
+        authorProfile.setTags(List.of(Profile.ProfileTags.BLOG, Profile.ProfileTags.SHOP));
+
+        post = Mappers.getMapper(PostMapper.class).toDto(posts.get(0));
+        user = Mappers.getMapper(UserMapper.class).toDto(author);
+        profile = Mappers.getMapper(ProfileMapper.class).toDto(authorProfile);
+
+        postJson = objectMapper.writeValueAsString(post);
+        userJson = objectMapper.writeValueAsString(user);
+        profileJson = objectMapper.writeValueAsString(profile);
+    }
+
+    @Benchmark
+    public byte[] writePost() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(post);
+    }
+
+    @Benchmark
+    public byte[] writeUserWithPosts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] writeProfile() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(profile);
+    }
+
+    @Benchmark
+    public PostDto readPost() throws JsonProcessingException {
+        return objectMapper.readValue(postJson, PostDto.class);
+    }
+
+    @Benchmark
+    public UserDto readUserWithPosts() throws JsonProcessingException {
+        return objectMapper.readValue(userJson, UserDto.class);
+    }
+
+    @Benchmark
+    public ProfileDto readProfile() throws JsonProcessingException {
+        return objectMapper.readValue(profileJson, ProfileDto.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.dataincloud.benchmarks;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.core.user.User;
+import com.dataincloud.dal.post.PostJpa;
+import com.dataincloud.dal.post.PostJpaMapper;
+import com.dataincloud.dal.profile.ProfileDocument;
+import com.dataincloud.dal.profile.ProfileDocumentMapper;
+import com.dataincloud.dal.profile.ProfileTagMask;
+import com.dataincloud.dal.user.UserJpa;
+import com.dataincloud.dal.user.UserJpaMapper;
+import com.dataincloud.services.post.PostMapper;
+import com.dataincloud.services.post.dto.BasicPostDto;
+import com.dataincloud.services.profile.ProfileMapper;
+import com.dataincloud.services.profile.dto.ProfileDto;
+import com.dataincloud.services.user.UserMapper;
+import com.dataincloud.services.user.dto.UserDto;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective ModelMapper path the services used to take with the generated MapStruct mappers,
+ * on the same persistence -> domain -> dto chains the endpoints run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+    @Param({"1000"})
+    private int size;
+
+    private ModelMapper modelMapper;
+    private PostJpaMapper postJpaMapper;
+    private UserJpaMapper userJpaMapper;
+    private ProfileDocumentMapper profileDocumentMapper;
+    private PostMapper postMapper;
+    private UserMapper userMapper;
+    private ProfileMapper profileMapper;
+
+    private List<PostJpa> posts;
+    private UserJpa userWithPosts;
+    private ProfileDocument profile;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        postJpaMapper = Mappers.getMapper(PostJpaMapper.class);
+        userJpaMapper = Mappers.getMapper(UserJpaMapper.class);
+        profileDocumentMapper = Mappers.getMapper(ProfileDocumentMapper.class);
+        postMapper = Mappers.getMapper(PostMapper.class);
+        userMapper = Mappers.getMapper(UserMapper.class);
+        profileMapper = Mappers.getMapper(ProfileMapper.class);
+
+        userWithPosts = new UserJpa();
+        userWithPosts.setId(1L);
+        userWithPosts.setUsername("benchmark_user");
+        userWithPosts.setBirthDate(Calendar.getInstance());
+
+        posts = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            PostJpa post = new PostJpa();
+            post.setId(i);
+            post.setHeader("Header " + i);
+            post.setDescription("Description of the post number " + i);
+            post.setCreatedDate(Calendar.getInstance());
+            post.setUser(userWithPosts);
+            posts.add(post);
+        }
+        userWithPosts.setPosts(posts.subList(0, Math.min(size, 20)));
+
+        profile = new ProfileDocument();
+        profile.setUserId(1L);
+        profile.setFirstName("First");
+        profile.setLastName("Last");
+        profile.setBirthDate(LocalDate.of(2000, 1, 1));
+        profile.setTagsMask(ProfileTagMask.of(List.of(Profile.ProfileTags.BLOG, Profile.ProfileTags.SHOP)));
+    }
+
+    @Benchmark
+    public List<BasicPostDto> postListModelMapper() {
+        List<BasicPostDto> result = new ArrayList<>(posts.size());
+        for (PostJpa postJpa : posts) {
+            result.add(modelMapper.map(modelMapper.map(postJpa, Post.class), BasicPostDto.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<BasicPostDto> postListGenerated() {
+        List<BasicPostDto> result = new ArrayList<>(posts.size());
+        for (PostJpa postJpa : posts) {
+            result.add(postMapper.toBasicDto(postJpaMapper.toDomain(postJpa)));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public UserDto userWithPostsModelMapper() {
+        User user = modelMapper.map(userWithPosts, User.class);
+        List<Post> recentPosts = new ArrayList<>(userWithPosts.getPosts().size());
+        for (PostJpa postJpa : userWithPosts.getPosts())
+            recentPosts.add(modelMapper.map(postJpa, Post.class));
+        user.setRecentPosts(recentPosts);
+        return modelMapper.map(user, UserDto.class);
+    }
+
+    @Benchmark
+    public UserDto userWithPostsGenerated() {
+        User user = userJpaMapper.toDomain(userWithPosts);
+        user.setRecentPosts(userWithPosts.getPosts().stream().map(userJpaMapper::toPostWithoutUser).toList());
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public ProfileDto profileModelMapper() {
+        return modelMapper.map(modelMapper.map(profile, Profile.class), ProfileDto.class);
+    }
+
+    @Benchmark
+    public ProfileDto profileGenerated() {
+        return profileMapper.toDto(profileDocumentMapper.toDomain(profile));
+    }
+}
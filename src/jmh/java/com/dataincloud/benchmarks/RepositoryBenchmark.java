@@ -0,0 +1,90 @@
+package com.dataincloud.benchmarks;
+
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.profile.IProfileRepository;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.core.user.User;
+import com.dataincloud.dal.post.PostRepository;
+import com.dataincloud.dal.profile.ProfileRepository;
+import com.dataincloud.dal.user.UserRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the repository reads the endpoints depend on against the stores themselves (H2 for users and posts, MongoDB
+ * for profiles), through the caching decorators the application injects, and against the in-memory repositories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+    @Param({"1000"})
+    private int users;
+
+    @Param({"store", "cache", "memory"})
+    private String layer;
+
+    private BenchmarkApplication application;
+    private BenchmarkApplication.Fixture fixture;
+
+    private IUserRepository userRepository;
+    private IPostRepository postRepository;
+    private IProfileRepository profileRepository;
+
+    /**
+     * The memory layer runs the memory profile, whose in-memory repositories are the ones injected; the others share
+     * the H2 and MongoDB setup and pick the stores or their caching decorators.
+     */
+    @Setup
+    public void setUp() {
+        application = BenchmarkApplication.start(layer.equals("memory"));
+        fixture = application.seed(users);
+
+        boolean store = layer.equals("store");
+        userRepository = application.bean(store ? UserRepository.class : IUserRepository.class);
+        postRepository = application.bean(store ? PostRepository.class : IPostRepository.class);
+        profileRepository = application.bean(store ? ProfileRepository.class : IProfileRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public User readUser() {
+        return userRepository.readById(fixture.randomUserId());
+    }
+
+    @Benchmark
+    public List<User> readUserPage() {
+        return userRepository.readPage(fixture.randomUserId(), 20);
+    }
+
+    @Benchmark
+    public List<Post> readUserPosts() {
+        return userRepository.readPosts(fixture.randomUserId(), Long.MAX_VALUE, 20);
+    }
+
+    @Benchmark
+    public Post readPost() {
+        return postRepository.readById(fixture.randomPostId());
+    }
+
+    @Benchmark
+    public Profile readProfile() {
+        return profileRepository.readById(fixture.randomUserId());
+    }
+
+    @Benchmark
+    public List<Profile> readProfilePage() {
+        return profileRepository.readPage(fixture.randomUserId(), 20);
+    }
+}
@@ -0,0 +1,75 @@
+package com.dataincloud.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules a burst of blocking tasks, a sleep standing in for a database round trip, on Tomcat's default 200 platform
+ * threads and on virtual threads. The pinned variant blocks inside {@code synchronized}, as the pre-42.6 PostgreSQL
+ * driver does around socket reads, which ties every waiting virtual thread to a carrier. Only the executors are
+ * measured; the application's MVC and repository code is not involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class RequestExecutorBenchmark {
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"1000", "5000"})
+    private int concurrentRequests;
+
+    @Param({"20"})
+    private long latencyMillis;
+
+    @Param({"platform", "virtual", "virtual-pinned"})
+    private String threads;
+
+    private ExecutorService executor;
+    private boolean pinned;
+
+    @Setup
+    public void setUp() {
+        executor = threads.equals("platform")
+                ? Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)
+                : Executors.newVirtualThreadPerTaskExecutor();
+        pinned = threads.equals("virtual-pinned");
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int serveConcurrentRequests() throws Exception {
+        List<Future<Integer>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++)
+            responses.add(executor.submit(this::handle));
+
+        int served = 0;
+        for (Future<Integer> response : responses)
+            served += response.get();
+        return served;
+    }
+
+    private Integer handle() throws InterruptedException {
+        if (pinned) {
+            Object connection = new Object();
+            synchronized (connection) {
+                Thread.sleep(latencyMillis);
+            }
+        } else {
+            Thread.sleep(latencyMillis);
+        }
+        return 1;
+    }
+}
@@ -1,13 +1,44 @@
 package com.dataincloud.api.configuration;
 
-import org.modelmapper.ModelMapper;
+import com.dataincloud.dal.post.PostJpaMapper;
+import com.dataincloud.dal.profile.ProfileDocumentMapper;
+import com.dataincloud.dal.user.UserJpaMapper;
+import com.dataincloud.services.post.PostMapper;
+import com.dataincloud.services.profile.ProfileMapper;
+import com.dataincloud.services.user.UserMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class BasicConfiguration {
     @Bean
-    public ModelMapper modelMapper(){
-        return new ModelMapper();
+    public UserMapper userMapper() {
+        return Mappers.getMapper(UserMapper.class);
+    }
+
+    @Bean
+    public PostMapper postMapper() {
+        return Mappers.getMapper(PostMapper.class);
+    }
+
+    @Bean
+    public ProfileMapper profileMapper() {
+        return Mappers.getMapper(ProfileMapper.class);
+    }
+
+    @Bean
+    public UserJpaMapper userJpaMapper() {
+        return Mappers.getMapper(UserJpaMapper.class);
+    }
+
+    @Bean
+    public PostJpaMapper postJpaMapper() {
+        return Mappers.getMapper(PostJpaMapper.class);
+    }
+
+    @Bean
+    public ProfileDocumentMapper profileDocumentMapper() {
+        return Mappers.getMapper(ProfileDocumentMapper.class);
     }
 }
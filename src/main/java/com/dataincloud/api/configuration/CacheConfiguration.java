@@ -0,0 +1,59 @@
+package com.dataincloud.api.configuration;
+
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.profile.IProfileRepository;
+import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.dal.cache.CachingPostRepository;
+import com.dataincloud.dal.cache.CachingProfileRepository;
+import com.dataincloud.dal.cache.CachingUserRepository;
+import com.dataincloud.dal.cache.EntityCaches;
+import com.dataincloud.dal.post.PostRepository;
+import com.dataincloud.dal.profile.ProfileRepository;
+import com.dataincloud.dal.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+@Configuration
+@Profile("!memory")
+public class CacheConfiguration {
+    @Bean
+    public EntityCaches entityCaches(@Value("${cache.entities.maximum-size}") DataSize maximumSize,
+                                     @Value("${cache.entities.time-to-live}") Duration timeToLive,
+                                     MeterRegistry meterRegistry, Environment environment) {
+        Executor loadExecutor = Threading.VIRTUAL.isActive(environment)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Runnable::run;
+        EntityCaches caches = new EntityCaches(maximumSize.toBytes(), timeToLive, loadExecutor);
+        caches.bindTo(meterRegistry);
+        return caches;
+    }
+
+    @Bean
+    @Primary
+    public IUserRepository cachingUserRepository(UserRepository userRepository, EntityCaches caches) {
+        return new CachingUserRepository(userRepository, caches);
+    }
+
+    @Bean
+    @Primary
+    public IPostRepository cachingPostRepository(PostRepository postRepository, EntityCaches caches) {
+        return new CachingPostRepository(postRepository, caches);
+    }
+
+    @Bean
+    @Primary
+    public IProfileRepository cachingProfileRepository(ProfileRepository profileRepository, EntityCaches caches) {
+        return new CachingProfileRepository(profileRepository, caches);
+    }
+}
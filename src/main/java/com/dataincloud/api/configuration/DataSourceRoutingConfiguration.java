@@ -0,0 +1,56 @@
+package com.dataincloud.api.configuration;
+
+import com.dataincloud.api.configuration.filters.ReadYourWritesFilter;
+import com.dataincloud.dal.routing.ReadYourWrites;
+import com.dataincloud.dal.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Active when {@code datasource.replicas.urls} lists replica JDBC urls; replicas use the credentials of the primary.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replicas.urls")
+public class DataSourceRoutingConfiguration {
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(DataSourceProperties properties,
+                                                      @Value("${datasource.replicas.urls}") List<String> replicaUrls,
+                                                      @Value("${datasource.replicas.health-check-interval}")
+                                                      Duration healthCheckInterval) {
+        DataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        List<DataSource> replicas = replicaUrls.stream()
+                .map(url -> (DataSource) properties.initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .url(url)
+                        .build())
+                .toList();
+        return new ReplicaRoutingDataSource(primary, replicas, healthCheckInterval);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(@Value("${datasource.replicas.sticky-window}") Duration stickyWindow) {
+        return new ReadYourWritesFilter(stickyWindow);
+    }
+
+    @Bean
+    public TaskDecorator readYourWritesTaskDecorator() {
+        return ReadYourWrites::propagate;
+    }
+}
@@ -0,0 +1,58 @@
+package com.dataincloud.api.configuration;
+
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.core.profile.IPhotoStore;
+import com.dataincloud.core.profile.IProfileRepository;
+import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.services.generator.DatasetGenerator;
+import com.dataincloud.services.generator.DatasetReport;
+import com.dataincloud.services.generator.DatasetSpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Instant;
+
+/**
+ * Fills whichever repositories are configured (PostgreSQL and MongoDB, or the memory profile) with a synthetic
+ * dataset on startup; see application-generator.properties.
+ */
+@Slf4j
+@Configuration
+@Profile("generator")
+public class GeneratorConfiguration {
+    @Bean
+    public DatasetGenerator datasetGenerator(IUserRepository userRepository, IPostRepository postRepository,
+                                             IProfileRepository profileRepository, IPostSearch postSearch,
+                                             IPhotoStore photoStore) {
+        return new DatasetGenerator(userRepository, postRepository, profileRepository, postSearch, photoStore);
+    }
+
+    @Bean
+    public ApplicationRunner datasetGeneratorRunner(DatasetGenerator generator,
+                                                    @Value("${generator.seed}") long seed,
+                                                    @Value("${generator.epoch}") String epoch,
+                                                    @Value("${generator.users}") int users,
+                                                    @Value("${generator.posts-per-user}") double postsPerUser,
+                                                    @Value("${generator.zipf-exponent}") double zipfExponent,
+                                                    @Value("${generator.profile-ratio}") double profileRatio,
+                                                    @Value("${generator.photo-ratio}") double photoRatio,
+                                                    @Value("${generator.photo-median-size}") DataSize photoMedianSize,
+                                                    @Value("${photos.max-size}") DataSize photoMaxSize,
+                                                    @Value("${generator.batch-size}") int batchSize) {
+        DatasetSpec spec = new DatasetSpec(seed, Instant.parse(epoch), users, postsPerUser, zipfExponent, profileRatio, photoRatio,
+                photoMedianSize.toBytes(), photoMaxSize.toBytes(), batchSize);
+        return arguments -> {
+            long started = System.nanoTime();
+            DatasetReport report = generator.generate(spec);
+            log.info("Generated {} users, {} posts, {} profiles and {} photos in {} s",
+                    report.users(), report.posts(), report.profiles(), report.photos(),
+                    (System.nanoTime() - started) / 1_000_000_000);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.dataincloud.api.configuration;
+
+import com.dataincloud.api.configuration.metrics.MethodMetricsAspect;
+import com.dataincloud.dal.cache.CachingPostRepository;
+import com.dataincloud.dal.cache.CachingProfileRepository;
+import com.dataincloud.dal.cache.CachingUserRepository;
+import com.dataincloud.dal.memory.InMemoryPostRepository;
+import com.dataincloud.dal.memory.InMemoryProfileRepository;
+import com.dataincloud.dal.memory.InMemoryUserRepository;
+import com.dataincloud.dal.post.PostRepository;
+import com.dataincloud.dal.profile.ProfileRepository;
+import com.dataincloud.dal.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class MetricsConfiguration {
+    @Bean
+    public MethodMetricsAspect methodMetricsAspect(MeterRegistry meterRegistry) {
+        return new MethodMetricsAspect(meterRegistry, Map.of(
+                UserRepository.class, "postgres",
+                PostRepository.class, "postgres",
+                ProfileRepository.class, "mongo",
+                CachingUserRepository.class, "cache",
+                CachingPostRepository.class, "cache",
+                CachingProfileRepository.class, "cache",
+                InMemoryUserRepository.class, "memory",
+                InMemoryPostRepository.class, "memory",
+                InMemoryProfileRepository.class, "memory"));
+    }
+}
@@ -0,0 +1,19 @@
+package com.dataincloud.api.configuration;
+
+import com.dataincloud.core.profile.IPhotoStore;
+import com.dataincloud.dal.photo.FilePhotoStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@Configuration
+public class PhotoStoreConfiguration {
+    @Bean
+    public IPhotoStore photoStore(@Value("${photos.directory}") Path directory,
+                                  @Value("${photos.max-size}") DataSize maxSize) {
+        return new FilePhotoStore(directory, maxSize.toBytes());
+    }
+}
@@ -0,0 +1,55 @@
+package com.dataincloud.api.configuration;
+
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.core.post.IPostWriteLog;
+import com.dataincloud.dal.post.FilePostWriteLog;
+import com.dataincloud.services.post.PostMapper;
+import com.dataincloud.services.post.PostStream;
+import com.dataincloud.services.post.PostWriteBuffer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Makes {@code POST /posts} write-behind when {@code posts.write-behind.enabled} is set. The durability setting picks
+ * what an accepted post survives before it is flushed: {@code none} keeps it in memory only, {@code wal} also writes
+ * it to the log file, surviving a crash of the process, and {@code fsync} forces the log to disk before answering,
+ * surviving a crash of the machine.
+ */
+@Configuration
+@ConditionalOnProperty(name = "posts.write-behind.enabled", havingValue = "true")
+public class PostWriteBufferConfiguration {
+    @Bean
+    public IPostWriteLog postWriteLog(@Value("${posts.write-behind.durability}") String durability,
+                                      @Value("${posts.write-behind.log-file}") Path logFile,
+                                      @Value("${posts.write-behind.log-segment-size}") DataSize segmentSize,
+                                      ObjectMapper objectMapper) {
+        return switch (durability) {
+            case "none" -> IPostWriteLog.NONE;
+            case "wal" -> new FilePostWriteLog(logFile, objectMapper, false, segmentSize.toBytes());
+            case "fsync" -> new FilePostWriteLog(logFile, objectMapper, true, segmentSize.toBytes());
+            default -> throw new IllegalArgumentException("Unknown write-behind durability: " + durability);
+        };
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public PostWriteBuffer postWriteBuffer(IPostRepository postRepository, IPostSearch postSearch,
+                                           PostMapper postMapper, IPostWriteLog postWriteLog, PostStream postStream,
+                                           @Value("${posts.write-behind.capacity}") int capacity,
+                                           @Value("${posts.write-behind.batch-size}") int batchSize,
+                                           @Value("${posts.write-behind.flush-interval}") Duration flushInterval,
+                                           MeterRegistry meterRegistry) {
+        PostWriteBuffer buffer = new PostWriteBuffer(postRepository, postSearch, postMapper, postWriteLog,
+                postStream, capacity, batchSize, flushInterval);
+        buffer.bindTo(meterRegistry);
+        return buffer;
+    }
+}
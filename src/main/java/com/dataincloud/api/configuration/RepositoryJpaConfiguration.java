@@ -3,9 +3,11 @@ package com.dataincloud.api.configuration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @Configuration
+@Profile("!memory")
 @ComponentScan({"com.dataincloud.dal.user", "com.dataincloud.dal.post"})
 @EntityScan("com.dataincloud.dal")
 @EnableJpaRepositories("com.dataincloud.dal")
@@ -0,0 +1,59 @@
+package com.dataincloud.api.configuration;
+
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.dal.memory.InMemoryPostRepository;
+import com.dataincloud.dal.memory.InMemoryProfileRepository;
+import com.dataincloud.dal.memory.InMemoryUserRepository;
+import com.dataincloud.dal.memory.MemoryStore;
+import com.dataincloud.dal.post.InMemoryPostSearch;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Standalone mode without PostgreSQL and MongoDB: the repositories and the post search live in memory, loaded from
+ * the {@code memory.snapshot.file} snapshot at startup and written back to it on shutdown.
+ */
+@Configuration
+@Profile("memory")
+public class RepositoryMemoryConfiguration {
+    @Bean
+    public MemoryStore memoryStore(ObjectMapper objectMapper,
+                                   @Value("${memory.snapshot.file}") Path snapshotFile) throws IOException {
+        MemoryStore store = new MemoryStore();
+        store.load(snapshotFile, objectMapper);
+        return store;
+    }
+
+    @Bean
+    public DisposableBean memorySnapshotWriter(MemoryStore store, ObjectMapper objectMapper,
+                                               @Value("${memory.snapshot.file}") Path snapshotFile) {
+        return () -> store.save(snapshotFile, objectMapper);
+    }
+
+    @Bean
+    public InMemoryUserRepository inMemoryUserRepository(MemoryStore store) {
+        return new InMemoryUserRepository(store);
+    }
+
+    @Bean
+    public InMemoryPostRepository inMemoryPostRepository(MemoryStore store) {
+        return new InMemoryPostRepository(store);
+    }
+
+    @Bean
+    public InMemoryProfileRepository inMemoryProfileRepository(MemoryStore store) {
+        return new InMemoryProfileRepository(store);
+    }
+
+    @Bean(initMethod = "rebuild")
+    public IPostSearch inMemoryPostSearch(InMemoryPostRepository postRepository) {
+        return new InMemoryPostSearch(postRepository::readAll, postRepository::readAllById);
+    }
+}
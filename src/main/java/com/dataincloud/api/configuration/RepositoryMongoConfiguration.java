@@ -2,9 +2,11 @@ package com.dataincloud.api.configuration;
 
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
 @Configuration
+@Profile("!memory")
 @ComponentScan("com.dataincloud.dal.profile")
 @EnableMongoRepositories("com.dataincloud.dal.profile")
 public class RepositoryMongoConfiguration {
@@ -0,0 +1,41 @@
+package com.dataincloud.api.configuration;
+
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.dal.post.InMemoryPostSearch;
+import com.dataincloud.dal.post.PostJpaMapper;
+import com.dataincloud.dal.post.PostJpaRepository;
+import com.dataincloud.dal.post.PostgresPostSearch;
+import com.dataincloud.dal.user.UserJpaMapper;
+import com.dataincloud.dal.user.UserJpaRepository;
+import com.dataincloud.dal.user.UsernameTrie;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@Profile("!memory")
+public class SearchConfiguration {
+    @Bean
+    @ConditionalOnProperty(name = "search.posts.engine", havingValue = "postgres", matchIfMissing = true)
+    public IPostSearch postgresPostSearch(JdbcTemplate jdbcTemplate) {
+        return new PostgresPostSearch(jdbcTemplate);
+    }
+
+    @Bean(initMethod = "rebuild")
+    @ConditionalOnProperty(name = "search.posts.engine", havingValue = "memory")
+    public IPostSearch inMemoryPostSearch(PostJpaRepository postRepository, PostJpaMapper postMapper) {
+        return new InMemoryPostSearch(
+                () -> postRepository.findAllWithUser().stream().map(postMapper::toDomain).toList(),
+                ids -> postRepository.findAllByIdFetch(ids).stream().map(postMapper::toDomain).toList());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "search.users.engine", havingValue = "memory")
+    public UsernameTrie usernameTrie(UserJpaRepository userRepository, UserJpaMapper userMapper) {
+        UsernameTrie trie = new UsernameTrie();
+        trie.rebuild(userRepository.findAll().stream().map(userMapper::toDomain));
+        return trie;
+    }
+}
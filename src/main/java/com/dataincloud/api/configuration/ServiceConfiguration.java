@@ -1,29 +1,76 @@
 package com.dataincloud.api.configuration;
 
 import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.core.profile.IPhotoStore;
 import com.dataincloud.core.profile.IProfileRepository;
 import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.services.bulk.BulkImportService;
+import com.dataincloud.services.post.PostMapper;
 import com.dataincloud.services.post.PostService;
+import com.dataincloud.services.post.PostStream;
+import com.dataincloud.services.profile.ProfileMapper;
 import com.dataincloud.services.profile.ProfileService;
+import com.dataincloud.services.user.FullUserService;
+import com.dataincloud.services.user.UserMapper;
 import com.dataincloud.services.user.UserService;
-import org.modelmapper.ModelMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class ServiceConfiguration {
     @Bean
-    public UserService userService(IUserRepository userRepository, ModelMapper modelMapper) {
-        return new UserService(userRepository, modelMapper);
+    public UserService userService(IUserRepository userRepository, UserMapper userMapper) {
+        return new UserService(userRepository, userMapper);
+    }
+
+    @Bean
+    public PostService postService(IPostRepository postRepository, PostMapper postMapper, IPostSearch postSearch,
+                                   PostStream postStream) {
+        return new PostService(postRepository, postMapper, postSearch, postStream);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public PostStream postStream(IPostRepository postRepository, PostMapper postMapper, ObjectMapper objectMapper,
+                                 @Value("${posts.stream.buffer-size}") int bufferSize,
+                                 @Value("${posts.stream.history-size}") int historySize,
+                                 @Value("${posts.stream.max-replay}") int maxReplay,
+                                 @Value("${posts.stream.heartbeat-interval}") Duration heartbeatInterval) {
+        return new PostStream(postRepository, postMapper, objectMapper, bufferSize, historySize, maxReplay,
+                heartbeatInterval);
     }
 
     @Bean
-    public PostService postService(IPostRepository postRepository, ModelMapper modelMapper) {
-        return new PostService(postRepository, modelMapper);
+    public ProfileService profileService(IProfileRepository profileRepository, ProfileMapper profileMapper,
+                                         IPhotoStore photoStore) {
+        return new ProfileService(profileRepository, profileMapper, photoStore);
+    }
+
+    /**
+     * Runs each branch on a virtual thread of its own, so branches never wait in a queue behind other tasks and the
+     * stores' connection pools bound how many reads actually run. The executor is not a bean: an Executor bean would
+     * replace Boot's applicationTaskExecutor, which serves async MVC requests. Closing the service closes it.
+     */
+    @Bean(destroyMethod = "close")
+    public FullUserService fullUserService(UserService userService, ProfileService profileService,
+                                           @Value("${users.full.branch-timeout}") Duration branchTimeout) {
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("full-user-", 0).factory());
+        return new FullUserService(userService, profileService, executor, branchTimeout);
     }
 
     @Bean
-    public ProfileService profileService(IProfileRepository profileRepository, ModelMapper modelMapper) {
-        return new ProfileService(profileRepository, modelMapper);
+    public BulkImportService bulkImportService(IUserRepository userRepository, IPostRepository postRepository,
+                                               IPostSearch postSearch, UserMapper userMapper, PostMapper postMapper,
+                                               Validator validator, ObjectMapper objectMapper) {
+        return new BulkImportService(userRepository, postRepository, postSearch, userMapper, postMapper,
+                validator, objectMapper);
     }
 }
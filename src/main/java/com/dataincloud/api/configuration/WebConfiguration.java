@@ -1,8 +1,11 @@
 package com.dataincloud.api.configuration;
 
 import com.dataincloud.api.configuration.converters.StringToProfileTagConverter;
+import com.dataincloud.api.configuration.converters.StringToTagMatchConverter;
+import com.dataincloud.api.configuration.interceptors.StreamingTimeoutInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -10,5 +13,11 @@ public class WebConfiguration implements WebMvcConfigurer {
     @Override
     public void addFormatters(FormatterRegistry registry) {
         registry.addConverter(new StringToProfileTagConverter());
+        registry.addConverter(new StringToTagMatchConverter());
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new StreamingTimeoutInterceptor());
     }
 }
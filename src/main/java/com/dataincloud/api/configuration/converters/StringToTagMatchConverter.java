@@ -0,0 +1,11 @@
+package com.dataincloud.api.configuration.converters;
+
+import com.dataincloud.core.profile.Profile;
+import org.springframework.core.convert.converter.Converter;
+
+public class StringToTagMatchConverter implements Converter<String, Profile.TagMatch> {
+    @Override
+    public Profile.TagMatch convert(String source) {
+        return Profile.TagMatch.valueOf(source.toUpperCase());
+    }
+}
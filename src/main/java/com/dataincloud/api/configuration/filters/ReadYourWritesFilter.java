@@ -0,0 +1,63 @@
+package com.dataincloud.api.configuration.filters;
+
+import com.dataincloud.dal.routing.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read-your-writes for clients of a replicated database: a write request hands out a cookie holding the time until
+ * which the client's reads are served from the primary, long enough to cover the replication lag.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    static final String COOKIE = "primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Duration stickyWindow;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            Cookie cookie = new Cookie(COOKIE, Long.toString(System.currentTimeMillis() + stickyWindow.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, stickyWindow.toSeconds()));
+            response.addCookie(cookie);
+        }
+
+        if (write || wroteRecently(request))
+            ReadYourWrites.pinToPrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private static boolean wroteRecently(HttpServletRequest request) {
+        if (request.getCookies() == null)
+            return false;
+        for (Cookie cookie : request.getCookies()) {
+            if (!COOKIE.equals(cookie.getName()))
+                continue;
+            try {
+                return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
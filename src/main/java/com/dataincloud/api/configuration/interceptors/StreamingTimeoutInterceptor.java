@@ -0,0 +1,29 @@
+package com.dataincloud.api.configuration.interceptors;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Lifts the async request timeout for requests a handler marked with {@link #withoutTimeout(HttpServletRequest)}, so
+ * a long streaming response is not cut off while every other async request keeps the configured timeout.
+ */
+public class StreamingTimeoutInterceptor implements CallableProcessingInterceptor {
+    private static final String WITHOUT_TIMEOUT = StreamingTimeoutInterceptor.class.getName() + ".WITHOUT_TIMEOUT";
+    private static final long NO_TIMEOUT = -1L;
+
+    public static void withoutTimeout(HttpServletRequest request) {
+        request.setAttribute(WITHOUT_TIMEOUT, Boolean.TRUE);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncRequest
+                && request.getAttribute(WITHOUT_TIMEOUT, RequestAttributes.SCOPE_REQUEST) != null)
+            asyncRequest.setTimeout(NO_TIMEOUT);
+    }
+}
@@ -0,0 +1,73 @@
+package com.dataincloud.api.configuration.metrics;
+
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every repository and service call into {@value #REPOSITORY_METRIC} and {@value #SERVICE_METRIC}, tagged by
+ * class, method, store and outcome. The timers keep HDR histograms and publish p50, p99 and p999 along with the call
+ * count; error counts are the counts of the timers whose outcome is not {@code success}.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class MethodMetricsAspect {
+    public static final String REPOSITORY_METRIC = "repository.calls";
+    public static final String SERVICE_METRIC = "service.calls";
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, String> stores;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.dataincloud.core.IRepository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_METRIC, joinPoint);
+    }
+
+    @Around("execution(public * com.dataincloud.services..*Service.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_METRIC, joinPoint);
+    }
+
+    private Object time(String metric, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (ResourceNotFoundException e) {
+            outcome = "not_found";
+            throw e;
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            Class<?> type = AopUtils.getTargetClass(joinPoint.getTarget());
+            timer(new TimerKey(metric, type, joinPoint.getSignature().getName(), outcome))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(TimerKey key) {
+        return timers.computeIfAbsent(key, k -> Timer.builder(k.metric())
+                .tag("class", k.type().getSimpleName())
+                .tag("method", k.method())
+                .tag("store", stores.getOrDefault(k.type(), "none"))
+                .tag("outcome", k.outcome())
+                .publishPercentiles(PERCENTILES)
+                .register(registry));
+    }
+
+    private record TimerKey(String metric, Class<?> type, String method, String outcome) {
+    }
+}
@@ -1,8 +1,13 @@
 package com.dataincloud.api.controllers;
 
+import com.dataincloud.core.exceptions.InvalidCursorException;
+import com.dataincloud.core.exceptions.PhotoTooLargeException;
 import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.exceptions.WriteBufferFullException;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.FieldError;
 import org.springframework.web.ErrorResponse;
@@ -22,6 +27,32 @@ public class GlobalExceptionHandler {
         return ErrorResponse.create(ex, HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ApiResponse(responseCode = "400", content = @Content)
+    public ErrorResponse handleInvalidCursorException(InvalidCursorException ex) {
+        return ErrorResponse.create(ex, HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(PhotoTooLargeException.class)
+    @ApiResponse(responseCode = "413", content = @Content)
+    public ErrorResponse handlePhotoTooLargeException(PhotoTooLargeException ex) {
+        return ErrorResponse.create(ex, HttpStatus.PAYLOAD_TOO_LARGE, ex.getMessage());
+    }
+
+    @ExceptionHandler(WriteBufferFullException.class)
+    @ApiResponse(responseCode = "503", content = @Content)
+    public ErrorResponse handleWriteBufferFullException(WriteBufferFullException ex) {
+        return ErrorResponse.builder(ex, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    @ApiResponse(responseCode = "409", content = @Content)
+    public ErrorResponse handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        return ErrorResponse.create(ex, HttpStatus.CONFLICT, "Data violates database constraints");
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public Map<String, String> handleValidationExceptions(
@@ -1,31 +1,131 @@
 package com.dataincloud.api.controllers.post;
 
+import com.dataincloud.api.configuration.interceptors.StreamingTimeoutInterceptor;
+import com.dataincloud.services.bulk.BulkImportService;
+import com.dataincloud.services.bulk.ImportFormat;
+import com.dataincloud.services.bulk.dto.ImportReportDto;
 import com.dataincloud.services.post.PostService;
+import com.dataincloud.services.post.PostStream;
+import com.dataincloud.services.post.PostWriteBuffer;
 import com.dataincloud.services.post.dto.BasicPostDto;
 import com.dataincloud.services.post.dto.PostCreateDto;
 import com.dataincloud.services.post.dto.PostDto;
+import com.dataincloud.services.page.PageDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @RestController
 @RequestMapping("/posts")
 @RequiredArgsConstructor
 public class PostController {
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final long STREAM_NO_TIMEOUT = -1L;
+
     private final PostService postService;
+    private final PostStream postStream;
+    private final BulkImportService bulkImportService;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<PostWriteBuffer> postWriteBuffer;
 
+    /**
+     * With the write buffer enabled the post is only accepted: the answer carries its id, and it can be read once
+     * flushed.
+     */
     @PostMapping
+    public ResponseEntity<PostDto> create(@Valid @RequestBody PostCreateDto newPost) {
+        PostWriteBuffer writeBuffer = postWriteBuffer.getIfAvailable();
+        if (writeBuffer == null)
+            return ResponseEntity.status(HttpStatus.CREATED).body(postService.create(newPost));
+
+        PostDto acceptedPost = writeBuffer.submit(newPost);
+        return ResponseEntity.accepted()
+                .location(URI.create("/posts/" + acceptedPost.getId()))
+                .body(acceptedPost);
+    }
+
+    @PostMapping("/batch")
     @ResponseStatus(code = HttpStatus.CREATED)
-    public PostDto create(@Valid @RequestBody PostCreateDto newPost) {
-        return postService.create(newPost);
+    public List<PostDto> createAll(@RequestBody @Size(min = 1, max = MAX_BATCH_SIZE) List<@Valid PostCreateDto> newPosts) {
+        return postService.createAll(newPosts);
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ImportReportDto importPosts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                       InputStream body) {
+        return bulkImportService.importPosts(body, ImportFormat.fromMediaType(contentType));
     }
 
     @GetMapping
-    public List<BasicPostDto> getAll() {
-        return postService.getAll();
+    public PageDto<BasicPostDto> getAll(@RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) Integer size) {
+        return postService.getPage(cursor, size);
+    }
+
+    @GetMapping("/search")
+    public PageDto<BasicPostDto> search(@RequestParam String q,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) Integer size) {
+        return postService.search(q, cursor, size);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(HttpServletRequest request) {
+        StreamingTimeoutInterceptor.withoutTimeout(request);
+        StreamingResponseBody body = outputStream -> {
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                AtomicLong written = new AtomicLong();
+
+                postService.exportAll(post -> {
+                    try {
+                        writer.writeValue(generator, post);
+                        generator.writeRaw('\n');
+                        if (written.getAndIncrement() % EXPORT_FLUSH_INTERVAL == 0)
+                            generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(STREAM_NO_TIMEOUT);
+        PostStream.Subscription subscription = postStream.subscribe(lastEventId, new SseEmitterSubscriber(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
     }
 
     @GetMapping("/{id}")
@@ -38,6 +138,16 @@ public class PostController {
         return postService.update(editedPost);
     }
 
+    @PutMapping("/batch")
+    public List<PostDto> updateAll(@RequestBody @Size(min = 1, max = MAX_BATCH_SIZE) List<@Valid PostDto> editedPosts) {
+        return postService.updateAll(editedPosts);
+    }
+
+    @DeleteMapping(params = "ids")
+    public List<PostDto> deleteAll(@RequestParam @Size(min = 1, max = MAX_BATCH_SIZE) List<Long> ids) {
+        return postService.deleteAllById(ids);
+    }
+
     @DeleteMapping("/{id}")
     public PostDto delete(@PathVariable Long id) {
         return postService.deleteById(id);
@@ -0,0 +1,35 @@
+package com.dataincloud.api.controllers.post;
+
+import com.dataincloud.services.post.PostStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * Writes stream events as {@code post} server-sent events with the stream sequence as event id, so a reconnecting
+ * EventSource sends it back as Last-Event-ID. The post is already JSON and goes out as is.
+ */
+@RequiredArgsConstructor
+class SseEmitterSubscriber implements PostStream.Subscriber {
+    private final SseEmitter emitter;
+
+    @Override
+    public void send(long eventId, String post) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(eventId))
+                .name("post")
+                .data(post, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment(""));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
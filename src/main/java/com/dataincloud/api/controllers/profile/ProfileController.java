@@ -1,26 +1,43 @@
 package com.dataincloud.api.controllers.profile;
 
+import com.dataincloud.core.UpsertResult;
 import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.services.page.PageDto;
 import com.dataincloud.services.profile.ProfileService;
 import com.dataincloud.services.profile.dto.ProfileDto;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.time.Duration;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 public class ProfileController {
+    private static final Duration PHOTO_MAX_AGE = Duration.ofDays(365);
+
     private final ProfileService profileService;
 
     @GetMapping("/users/profiles")
-    public List<ProfileDto> getAll() {
-        return profileService.readAll();
+    public PageDto<ProfileDto> getAll(@RequestParam(value = "tag", required = false) Set<Profile.ProfileTags> tags,
+                                      @RequestParam(defaultValue = "any") Profile.TagMatch match,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(required = false) Integer size) {
+        return profileService.readPageByTags(tags, match, cursor, size);
     }
 
     @GetMapping("/users/{id}/profiles")
@@ -28,23 +45,78 @@ public class ProfileController {
         return profileService.readById(userId);
     }
 
+    /**
+     * Serves the raw photo with a strong ETag (the content hash) and Range support. Requests carrying the current
+     * hash as {@code v} address immutable content and may be cached forever, the bare URL has to be revalidated.
+     */
+    @GetMapping("/users/{id}/profiles/photo")
+    public ResponseEntity<Resource> getPhoto(@PathVariable("id") Long userId,
+                                             @RequestParam(value = "v", required = false) String version)
+            throws IOException {
+        String photoId = profileService.readById(userId).getPhotoId();
+        if (photoId == null)
+            throw new ResourceNotFoundException("Photo not found");
+        Resource photo = profileService.readPhoto(photoId);
+
+        CacheControl cacheControl = photoId.equals(version)
+                ? CacheControl.maxAge(PHOTO_MAX_AGE).cachePublic().immutable()
+                : CacheControl.noCache();
+        return ResponseEntity.ok()
+                .eTag(photoId)
+                .cacheControl(cacheControl)
+                .contentType(detectMediaType(photo))
+                .body(photo);
+    }
+
     @PutMapping("/users/profiles")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Created"),
             @ApiResponse(responseCode = "200", description = "Updated")
     })
     public ResponseEntity<ProfileDto> save(@RequestBody @Valid ProfileDto inputProfile) {
-        try {
-            ProfileDto updatedProfile = profileService.update(inputProfile);
-            return ResponseEntity.status(HttpStatus.OK).body(updatedProfile);
-        } catch (ResourceNotFoundException e) {
-            ProfileDto createdProfile = profileService.create(inputProfile);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdProfile);
+        return saveProfile(inputProfile);
+    }
+
+    /**
+     * Multipart variant of {@link #save}: the {@code profile} part is validated on its own, the {@code photo} part is
+     * spooled to disk by the container and streamed into the photo store.
+     */
+    @PutMapping(value = "/users/profiles", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Created"),
+            @ApiResponse(responseCode = "200", description = "Updated")
+    })
+    public ResponseEntity<ProfileDto> saveWithPhoto(@RequestPart("profile") @Valid ProfileDto inputProfile,
+                                                    @RequestPart(value = "photo", required = false) MultipartFile photo)
+            throws IOException {
+        if (photo != null && !photo.isEmpty()) {
+            try (InputStream content = photo.getInputStream()) {
+                inputProfile.setPhotoId(profileService.storePhoto(content));
+            }
         }
+        return saveProfile(inputProfile);
+    }
+
+    @PutMapping(value = "/users/{id}/profiles/photo",
+            consumes = {MediaType.APPLICATION_OCTET_STREAM_VALUE, "image/*"})
+    public ProfileDto savePhoto(@PathVariable("id") Long userId, InputStream photo) {
+        return profileService.updatePhoto(userId, photo);
     }
 
     @DeleteMapping("/users/{id}/profiles")
     public ProfileDto delete(@PathVariable("id") Long userId) {
         return profileService.deleteById(userId);
     }
+
+    private ResponseEntity<ProfileDto> saveProfile(ProfileDto inputProfile) {
+        UpsertResult<ProfileDto> result = profileService.save(inputProfile);
+        return ResponseEntity.status(result.isCreated() ? HttpStatus.CREATED : HttpStatus.OK).body(result.getValue());
+    }
+
+    private static MediaType detectMediaType(Resource photo) throws IOException {
+        try (InputStream content = new BufferedInputStream(photo.getInputStream())) {
+            String contentType = URLConnection.guessContentTypeFromStream(content);
+            return contentType == null ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType(contentType);
+        }
+    }
 }
@@ -1,21 +1,36 @@
 package com.dataincloud.api.controllers.user;
 
+import com.dataincloud.services.bulk.BulkImportService;
+import com.dataincloud.services.bulk.ImportFormat;
+import com.dataincloud.services.bulk.dto.ImportReportDto;
+import com.dataincloud.services.page.PageDto;
+import com.dataincloud.services.post.dto.BasicPostDto;
+import com.dataincloud.services.user.FullUserService;
 import com.dataincloud.services.user.UserService;
 import com.dataincloud.services.user.dto.BasicUserDto;
+import com.dataincloud.services.user.dto.FullUserDto;
 import com.dataincloud.services.user.dto.UserCreateDto;
 import com.dataincloud.services.user.dto.UserDto;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
 @RequestMapping("/users")
 @RequiredArgsConstructor
 public class UserController {
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final UserService userService;
+    private final FullUserService fullUserService;
+    private final BulkImportService bulkImportService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -23,9 +38,33 @@ public class UserController {
         return userService.create(newUser);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<UserDto> createAll(@RequestBody @Size(min = 1, max = MAX_BATCH_SIZE) List<@Valid UserCreateDto> newUsers) {
+        return userService.createAll(newUsers);
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ImportReportDto importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                       InputStream body) {
+        return bulkImportService.importUsers(body, ImportFormat.fromMediaType(contentType));
+    }
+
     @GetMapping
-    public List<BasicUserDto> getAll() {
-        return userService.getAll();
+    public PageDto<BasicUserDto> getAll(@RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) Integer size) {
+        return userService.getPage(cursor, size);
+    }
+
+    @GetMapping("/search")
+    public List<BasicUserDto> search(@RequestParam @NotBlank String prefix,
+                                     @RequestParam(required = false) Integer size) {
+        return userService.searchByUsername(prefix, size);
+    }
+
+    @GetMapping("/by-username/{username}")
+    public BasicUserDto getByUsername(@PathVariable String username) {
+        return userService.getByUsername(username);
     }
 
     @GetMapping("/{id}")
@@ -33,6 +72,18 @@ public class UserController {
         return userService.getById(id);
     }
 
+    @GetMapping("/{id}/full")
+    public FullUserDto getFullById(@PathVariable Long id) {
+        return fullUserService.getById(id);
+    }
+
+    @GetMapping("/{id}/posts")
+    public PageDto<BasicPostDto> getPosts(@PathVariable Long id,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer size) {
+        return userService.getPosts(id, cursor, size);
+    }
+
     @PutMapping
     public UserDto update(@Valid @RequestBody UserDto editedUser) {
         return userService.update(editedUser);
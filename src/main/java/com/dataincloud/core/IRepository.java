@@ -5,7 +5,20 @@ import java.util.List;
 public interface IRepository <T, ID>{
     T create (T t);
     List<T> readAll();
+    List<T> readPage(ID after, int limit);
     T readById(ID id);
     T update(T t);
     T delete(ID id);
+
+    default List<T> createAll(List<T> ts) {
+        return ts.stream().map(this::create).toList();
+    }
+
+    default List<T> updateAll(List<T> ts) {
+        return ts.stream().map(this::update).toList();
+    }
+
+    default List<T> deleteAllById(List<ID> ids) {
+        return ids.stream().map(this::delete).toList();
+    }
 }
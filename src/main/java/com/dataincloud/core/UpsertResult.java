@@ -0,0 +1,11 @@
+package com.dataincloud.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UpsertResult<T> {
+    private final T value;
+    private final boolean created;
+}
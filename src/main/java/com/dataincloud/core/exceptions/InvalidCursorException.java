@@ -0,0 +1,18 @@
+package com.dataincloud.core.exceptions;
+
+public class InvalidCursorException extends RuntimeException{
+    public InvalidCursorException() {
+    }
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidCursorException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.dataincloud.core.exceptions;
+
+public class WriteBufferFullException extends RuntimeException{
+    public WriteBufferFullException() {
+    }
+
+    public WriteBufferFullException(String message) {
+        super(message);
+    }
+
+    public WriteBufferFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public WriteBufferFullException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -2,5 +2,27 @@ package com.dataincloud.core.post;
 
 import com.dataincloud.core.IRepository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 public interface IPostRepository extends IRepository<Post, Long> {
+    void streamAll(Consumer<Post> consumer);
+    long copyFrom(Stream<Post> posts);
+
+    /**
+     * The posts among {@code ids} that exist, in no particular order.
+     */
+    List<Post> readAllById(Collection<Long> ids);
+
+    /**
+     * Allocates {@code count} post ids up front, so posts can be handed out with their id before they are stored.
+     */
+    List<Long> reserveIds(int count);
+
+    /**
+     * Stores posts that already carry an id from {@link #reserveIds(int)}, all of them or none.
+     */
+    List<Post> insertAll(List<Post> posts);
 }
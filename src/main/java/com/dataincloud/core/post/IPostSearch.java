@@ -0,0 +1,18 @@
+package com.dataincloud.core.post;
+
+import java.util.List;
+
+/**
+ * Full-text search over post headers and descriptions. Hits are ordered by rank descending, then by id, and paged by
+ * keyset on that pair: the next page starts after ({@code afterRank}, {@code afterId}), the first page after
+ * ({@link Float#POSITIVE_INFINITY}, 0).
+ */
+public interface IPostSearch {
+    List<RankedPost> search(String query, float afterRank, long afterId, int limit);
+
+    void index(Post post);
+
+    void remove(Long postId);
+
+    void rebuild();
+}
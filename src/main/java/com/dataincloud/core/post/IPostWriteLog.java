@@ -0,0 +1,36 @@
+package com.dataincloud.core.post;
+
+import java.util.List;
+
+/**
+ * Keeps accepted posts that are not stored yet, so they survive a restart. Posts leave the log in any order, once
+ * they are stored or rejected for good.
+ */
+public interface IPostWriteLog {
+    IPostWriteLog NONE = new IPostWriteLog() {
+        @Override
+        public List<Post> recover() {
+            return List.of();
+        }
+
+        @Override
+        public void append(Post post) {
+        }
+
+        @Override
+        public void committed(List<Post> posts) {
+        }
+    };
+
+    /**
+     * The posts left over from before the last shutdown; they stay in the log until {@link #committed(List)}.
+     */
+    List<Post> recover();
+
+    void append(Post post);
+
+    /**
+     * Removes the appended or recovered {@code posts} from the log.
+     */
+    void committed(List<Post> posts);
+}
@@ -0,0 +1,11 @@
+package com.dataincloud.core.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RankedPost {
+    private final Post post;
+    private final float rank;
+}
@@ -0,0 +1,10 @@
+package com.dataincloud.core.profile;
+
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+
+public interface IPhotoStore {
+    String save(InputStream content);
+    Resource read(String photoId);
+}
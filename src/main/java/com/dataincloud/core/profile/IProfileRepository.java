@@ -1,7 +1,12 @@
 package com.dataincloud.core.profile;
 
 import com.dataincloud.core.IRepository;
+import com.dataincloud.core.UpsertResult;
 
-public interface IProfileRepository extends IRepository<Profile, Long> {
+import java.util.List;
+import java.util.Set;
 
+public interface IProfileRepository extends IRepository<Profile, Long> {
+    UpsertResult<Profile> upsert(Profile profile);
+    List<Profile> readPageByTags(Set<Profile.ProfileTags> tags, Profile.TagMatch match, Long after, int limit);
 }
@@ -14,14 +14,22 @@ public class Profile {
     private Long userId;
     private String firstName;
     private String lastName;
-    private Byte[] photo;
+    private String photoId;
     private LocalDate birthDate;
     private List<ProfileTags> tags = new LinkedList<>();
 
+    /**
+     * Stored as bits by ordinal, so new tags are only ever appended.
+     */
     public enum ProfileTags {
         EDUCATION,
         BLOG,
         SHOP
 
     }
+
+    public enum TagMatch {
+        ANY,
+        ALL
+    }
 }
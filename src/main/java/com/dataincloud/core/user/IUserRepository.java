@@ -1,7 +1,15 @@
 package com.dataincloud.core.user;
 
 import com.dataincloud.core.IRepository;
+import com.dataincloud.core.post.Post;
 
-public interface IUserRepository extends IRepository<User, Long> {
+import java.util.List;
+import java.util.stream.Stream;
 
+public interface IUserRepository extends IRepository<User, Long> {
+    long copyFrom(Stream<User> users);
+    boolean exists(Long id);
+    List<Post> readPosts(Long userId, Long before, int limit);
+    List<User> readByUsernamePrefix(String prefix, int limit);
+    User readByUsername(String username);
 }
@@ -14,6 +14,8 @@ public class User {
     private String username;
     private Calendar birthDate;
 
+    private long postCount;
+
     @ToString.Exclude @EqualsAndHashCode.Exclude
-    private List<Post> posts;
+    private List<Post> recentPosts;
 }
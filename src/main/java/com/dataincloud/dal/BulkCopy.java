@@ -0,0 +1,145 @@
+package com.dataincloud.dal;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Streams rows into a table with PostgreSQL COPY, falling back to JDBC batch inserts on other databases (H2 in tests).
+ * Rows are consumed lazily, so the caller's stream is never materialised beyond one chunk.
+ */
+public final class BulkCopy {
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int ID_CHUNK_SIZE = 10_000;
+
+    private BulkCopy() {
+    }
+
+    public static long copy(JdbcTemplate jdbcTemplate, String table, List<String> columns, Stream<Object[]> rows) {
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (connection.isWrapperFor(PGConnection.class))
+                return copyIn(connection.unwrap(PGConnection.class), table, columns, rows);
+            return batchInsert(connection, table, columns, rows);
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    /**
+     * Copies the items with an id from {@code ids} as the first column. The ids of a chunk are reserved before its COPY
+     * starts, as the connection cannot run nextval while a COPY is open on it.
+     */
+    public static <T> long copyWithIds(JdbcTemplate jdbcTemplate, String table, List<String> columns, Stream<T> items,
+                                       PooledIds ids, BiFunction<Long, T, Object[]> toRow) {
+        long copied = 0;
+        List<T> chunk = new ArrayList<>(ID_CHUNK_SIZE);
+        Iterator<T> iterator = items.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == ID_CHUNK_SIZE || !iterator.hasNext()) {
+                List<Long> chunkIds = ids.take(chunk.size());
+                List<T> rows = chunk;
+                copied += copy(jdbcTemplate, table, columns, IntStream.range(0, rows.size())
+                        .mapToObj(i -> toRow.apply(chunkIds.get(i), rows.get(i))));
+                chunk = new ArrayList<>(ID_CHUNK_SIZE);
+            }
+        }
+        return copied;
+    }
+
+    public static LocalDate toLocalDate(Calendar calendar) {
+        return calendar == null ? null : LocalDate.ofInstant(calendar.toInstant(), calendar.getTimeZone().toZoneId());
+    }
+
+    public static LocalDateTime toLocalDateTime(Calendar calendar) {
+        return calendar == null ? null : LocalDateTime.ofInstant(calendar.toInstant(), calendar.getTimeZone().toZoneId());
+    }
+
+    private static long copyIn(PGConnection connection, String table, List<String> columns, Stream<Object[]> rows)
+            throws SQLException {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        PGCopyOutputStream copyStream = new PGCopyOutputStream(connection, sql, COPY_BUFFER_SIZE);
+        Writer writer = new OutputStreamWriter(copyStream, StandardCharsets.UTF_8);
+
+        try {
+            rows.forEach(row -> writeCsvLine(writer, row));
+            writer.flush();
+            return copyStream.endCopy();
+        } catch (IOException e) {
+            cancel(copyStream);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            cancel(copyStream);
+            throw e;
+        }
+    }
+
+    private static void cancel(PGCopyOutputStream copyStream) throws SQLException {
+        if (copyStream.isActive())
+            copyStream.cancelCopy();
+    }
+
+    private static long batchInsert(Connection connection, String table, List<String> columns, Stream<Object[]> rows)
+            throws SQLException {
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            long inserted = 0;
+            int pending = 0;
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                for (int i = 0; i < row.length; i++)
+                    statement.setObject(i + 1, row[i]);
+                statement.addBatch();
+                inserted++;
+
+                if (++pending == INSERT_BATCH_SIZE) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0)
+                statement.executeBatch();
+            return inserted;
+        }
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] row) {
+        try {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0)
+                    writer.write(',');
+                if (row[i] != null) {
+                    writer.write('"');
+                    writer.write(row[i].toString().replace("\"", "\"\""));
+                    writer.write('"');
+                }
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
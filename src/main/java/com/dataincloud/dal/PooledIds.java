@@ -0,0 +1,60 @@
+package com.dataincloud.dal;
+
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out ids from whole blocks of a pooled sequence the way Hibernate's pooled optimizer does, a value {@code V}
+ * owning the ids {@code V-49..V}. Rows written without JPA take their ids from here: the column default calls nextval
+ * once per row, and with the sequence incrementing by a block that spends a whole block on every row. Not thread-safe;
+ * the ids left in the last block are dropped with the instance.
+ */
+public final class PooledIds implements LongSupplier {
+    public static final int BLOCK_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sequence;
+    private long next = 1;
+    private long blockEnd;
+
+    public PooledIds(JdbcTemplate jdbcTemplate, String sequence) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequence = sequence;
+    }
+
+    @Override
+    public long getAsLong() {
+        if (next > blockEnd) {
+            blockEnd = nextValue();
+            next = blockEnd - BLOCK_SIZE + 1;
+        }
+        return next++;
+    }
+
+    public List<Long> take(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count)
+            ids.add(getAsLong());
+        return ids;
+    }
+
+    private long nextValue() {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            String query = connection.isWrapperFor(PGConnection.class)
+                    ? "SELECT nextval('" + sequence + "')"
+                    : "SELECT NEXT VALUE FOR " + sequence;
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(query)) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        });
+    }
+}
@@ -0,0 +1,155 @@
+package com.dataincloud.dal.cache;
+
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.dal.routing.ReadYourWrites;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class CachingPostRepository implements IPostRepository {
+    private static final int MAX_TRACKED_AUTHORS = 100_000;
+
+    private final IPostRepository postRepository;
+    private final EntityCaches caches;
+
+    @Override
+    public Post create(Post newPost) {
+        Post createdPost = postRepository.create(newPost);
+        evictAuthor(createdPost);
+        return createdPost;
+    }
+
+    @Override
+    public List<Post> createAll(List<Post> newPosts) {
+        List<Post> createdPosts = postRepository.createAll(newPosts);
+        createdPosts.forEach(this::evictAuthor);
+        return createdPosts;
+    }
+
+    @Override
+    public List<Long> reserveIds(int count) {
+        return postRepository.reserveIds(count);
+    }
+
+    @Override
+    public List<Post> insertAll(List<Post> newPosts) {
+        List<Post> insertedPosts = postRepository.insertAll(newPosts);
+        insertedPosts.forEach(this::evictAuthor);
+        return insertedPosts;
+    }
+
+    @Override
+    public List<Post> readAll() {
+        return postRepository.readAll();
+    }
+
+    @Override
+    public List<Post> readPage(Long after, int limit) {
+        return postRepository.readPage(after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Post> consumer) {
+        postRepository.streamAll(consumer);
+    }
+
+    /**
+     * Evicts the authors of the copied posts, or everything once there are too many authors to track, as with
+     * generated datasets.
+     */
+    @Override
+    public long copyFrom(Stream<Post> posts) {
+        Set<Long> authorIds = new HashSet<>();
+        AtomicBoolean tooManyAuthors = new AtomicBoolean();
+        try {
+            return postRepository.copyFrom(posts.peek(post -> {
+                if (post.getUser() == null || tooManyAuthors.get())
+                    return;
+                authorIds.add(post.getUser().getId());
+                if (authorIds.size() > MAX_TRACKED_AUTHORS) {
+                    tooManyAuthors.set(true);
+                    authorIds.clear();
+                }
+            }));
+        } finally {
+            if (tooManyAuthors.get())
+                caches.invalidateAll();
+            else
+                caches.evictUsers(authorIds);
+        }
+    }
+
+    @Override
+    public List<Post> readAllById(Collection<Long> ids) {
+        return postRepository.readAllById(ids);
+    }
+
+    /**
+     * Misses load from the primary, so the entry is never older than the last invalidation.
+     */
+    @Override
+    public Post readById(Long id) {
+        return caches.posts().get(id, key -> ReadYourWrites.onPrimary(() -> postRepository.readById(key)));
+    }
+
+    @Override
+    public Post update(Post editedPost) {
+        evictAuthor(caches.posts().getIfPresent(editedPost.getId()));
+        caches.posts().invalidate(editedPost.getId());
+        evictAuthor(editedPost);
+        try {
+            return postRepository.update(editedPost);
+        } finally {
+            caches.posts().invalidate(editedPost.getId());
+        }
+    }
+
+    @Override
+    public List<Post> updateAll(List<Post> editedPosts) {
+        for (Post editedPost : editedPosts) {
+            evictAuthor(caches.posts().getIfPresent(editedPost.getId()));
+            caches.posts().invalidate(editedPost.getId());
+            evictAuthor(editedPost);
+        }
+        try {
+            return postRepository.updateAll(editedPosts);
+        } finally {
+            caches.posts().invalidateAll(editedPosts.stream().map(Post::getId).toList());
+        }
+    }
+
+    @Override
+    public List<Post> deleteAllById(List<Long> ids) {
+        try {
+            List<Post> deletedPosts = postRepository.deleteAllById(ids);
+            deletedPosts.forEach(this::evictAuthor);
+            return deletedPosts;
+        } finally {
+            caches.posts().invalidateAll(ids);
+        }
+    }
+
+    @Override
+    public Post delete(Long id) {
+        try {
+            Post deletedPost = postRepository.delete(id);
+            evictAuthor(deletedPost);
+            return deletedPost;
+        } finally {
+            caches.posts().invalidate(id);
+        }
+    }
+
+    private void evictAuthor(Post post) {
+        if (post != null && post.getUser() != null && post.getUser().getId() != null)
+            caches.users().invalidate(post.getUser().getId());
+    }
+}
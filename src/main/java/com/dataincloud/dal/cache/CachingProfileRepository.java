@@ -0,0 +1,82 @@
+package com.dataincloud.dal.cache;
+
+import com.dataincloud.core.UpsertResult;
+import com.dataincloud.core.profile.IProfileRepository;
+import com.dataincloud.core.profile.Profile;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class CachingProfileRepository implements IProfileRepository {
+    private final IProfileRepository profileRepository;
+    private final EntityCaches caches;
+
+    @Override
+    public Profile create(Profile newProfile) {
+        try {
+            return profileRepository.create(newProfile);
+        } finally {
+            caches.profiles().invalidate(newProfile.getUserId());
+        }
+    }
+
+    @Override
+    public List<Profile> createAll(List<Profile> newProfiles) {
+        try {
+            return profileRepository.createAll(newProfiles);
+        } finally {
+            newProfiles.forEach(profile -> caches.profiles().invalidate(profile.getUserId()));
+        }
+    }
+
+    @Override
+    public List<Profile> readAll() {
+        return profileRepository.readAll();
+    }
+
+    @Override
+    public List<Profile> readPage(Long after, int limit) {
+        return profileRepository.readPage(after, limit);
+    }
+
+    @Override
+    public List<Profile> readPageByTags(Set<Profile.ProfileTags> tags, Profile.TagMatch match, Long after, int limit) {
+        return profileRepository.readPageByTags(tags, match, after, limit);
+    }
+
+    @Override
+    public Profile readById(Long userId) {
+        return caches.profiles().get(userId, profileRepository::readById);
+    }
+
+    @Override
+    public Profile update(Profile editedProfile) {
+        caches.profiles().invalidate(editedProfile.getUserId());
+        try {
+            return profileRepository.update(editedProfile);
+        } finally {
+            caches.profiles().invalidate(editedProfile.getUserId());
+        }
+    }
+
+    @Override
+    public UpsertResult<Profile> upsert(Profile profile) {
+        caches.profiles().invalidate(profile.getUserId());
+        try {
+            return profileRepository.upsert(profile);
+        } finally {
+            caches.profiles().invalidate(profile.getUserId());
+        }
+    }
+
+    @Override
+    public Profile delete(Long userId) {
+        try {
+            return profileRepository.delete(userId);
+        } finally {
+            caches.profiles().invalidate(userId);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.dataincloud.dal.cache;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.core.user.User;
+import com.dataincloud.dal.routing.ReadYourWrites;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class CachingUserRepository implements IUserRepository {
+    private final IUserRepository userRepository;
+    private final EntityCaches caches;
+
+    @Override
+    public User create(User newUser) {
+        return userRepository.create(newUser);
+    }
+
+    @Override
+    public List<User> createAll(List<User> newUsers) {
+        return userRepository.createAll(newUsers);
+    }
+
+    @Override
+    public List<User> readAll() {
+        return userRepository.readAll();
+    }
+
+    @Override
+    public List<User> readPage(Long after, int limit) {
+        return userRepository.readPage(after, limit);
+    }
+
+    @Override
+    public long copyFrom(Stream<User> users) {
+        return userRepository.copyFrom(users);
+    }
+
+    @Override
+    public boolean exists(Long id) {
+        return userRepository.exists(id);
+    }
+
+    @Override
+    public List<Post> readPosts(Long userId, Long before, int limit) {
+        return userRepository.readPosts(userId, before, limit);
+    }
+
+    @Override
+    public List<User> readByUsernamePrefix(String prefix, int limit) {
+        return userRepository.readByUsernamePrefix(prefix, limit);
+    }
+
+    @Override
+    public User readByUsername(String username) {
+        return userRepository.readByUsername(username);
+    }
+
+    /**
+     * Misses load from the primary, so the entry is never older than the last invalidation.
+     */
+    @Override
+    public User readById(Long id) {
+        return caches.users().get(id, key -> ReadYourWrites.onPrimary(() -> userRepository.readById(key)));
+    }
+
+    @Override
+    public User update(User editedUser) {
+        caches.users().invalidate(editedUser.getId());
+        try {
+            return userRepository.update(editedUser);
+        } finally {
+            caches.users().invalidate(editedUser.getId());
+            caches.evictPostsOf(editedUser.getId());
+        }
+    }
+
+    @Override
+    public User delete(Long id) {
+        try {
+            return userRepository.delete(id);
+        } finally {
+            caches.users().invalidate(id);
+            caches.evictPostsOf(id);
+        }
+    }
+}
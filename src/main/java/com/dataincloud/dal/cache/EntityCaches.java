@@ -0,0 +1,115 @@
+package com.dataincloud.dal.cache;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.core.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Bounded read-through caches shared by the caching repository decorators, so that a write through one repository can
+ * evict entries cached by another (a user's posts embed the author, a user embeds its posts). Each cache is bounded by
+ * an estimate of the retained heap in bytes; admission and eviction are Caffeine's W-TinyLFU.
+ * <p>
+ * The caches are asynchronous underneath: a miss publishes a future and runs the load on {@code loadExecutor}, so the
+ * database call is not made while holding the map's bin lock, which would pin a virtual thread to its carrier.
+ */
+public class EntityCaches {
+    private static final int OBJECT_OVERHEAD = 48;
+
+    private final Cache<Long, User> users;
+    private final Cache<Long, Post> posts;
+    private final Cache<Long, Profile> profiles;
+
+    public EntityCaches(long maximumWeight, Duration timeToLive) {
+        this(maximumWeight, timeToLive, Runnable::run);
+    }
+
+    public EntityCaches(long maximumWeight, Duration timeToLive, Executor loadExecutor) {
+        this.users = build(maximumWeight, timeToLive, loadExecutor, (Long id, User user) -> weigh(user));
+        this.posts = build(maximumWeight, timeToLive, loadExecutor, (Long id, Post post) -> weigh(post));
+        this.profiles = build(maximumWeight, timeToLive, loadExecutor, (Long id, Profile profile) -> weigh(profile));
+    }
+
+    public Cache<Long, User> users() {
+        return users;
+    }
+
+    public Cache<Long, Post> posts() {
+        return posts;
+    }
+
+    public Cache<Long, Profile> profiles() {
+        return profiles;
+    }
+
+    /**
+     * Cached posts are not indexed by author, so this scans the post cache. User writes are rare compared to reads,
+     * and the scan is bounded by the cache size.
+     */
+    public void evictPostsOf(Long userId) {
+        posts.asMap().values().removeIf(post -> post.getUser() != null && userId.equals(post.getUser().getId()));
+    }
+
+    public void evictUsers(Collection<Long> userIds) {
+        users.invalidateAll(userIds);
+    }
+
+    public void invalidateAll() {
+        users.invalidateAll();
+        posts.invalidateAll();
+        profiles.invalidateAll();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, users, "users");
+        CaffeineCacheMetrics.monitor(registry, posts, "posts");
+        CaffeineCacheMetrics.monitor(registry, profiles, "profiles");
+    }
+
+    private static <V> Cache<Long, V> build(long maximumWeight, Duration timeToLive, Executor loadExecutor,
+                                            Weigher<Long, V> weigher) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(weigher)
+                .expireAfterWrite(timeToLive)
+                .executor(loadExecutor)
+                .recordStats()
+                .<Long, V>buildAsync()
+                .synchronous();
+    }
+
+    private static int weigh(User user) {
+        int weight = OBJECT_OVERHEAD + weigh(user.getUsername());
+        if (user.getRecentPosts() != null) {
+            for (Post post : user.getRecentPosts())
+                weight += OBJECT_OVERHEAD + weigh(post.getHeader()) + weigh(post.getDescription());
+        }
+        return weight;
+    }
+
+    private static int weigh(Post post) {
+        int weight = OBJECT_OVERHEAD + weigh(post.getHeader()) + weigh(post.getDescription());
+        if (post.getUser() != null)
+            weight += OBJECT_OVERHEAD + weigh(post.getUser().getUsername());
+        return weight;
+    }
+
+    private static int weigh(Profile profile) {
+        List<Profile.ProfileTags> tags = profile.getTags();
+        return OBJECT_OVERHEAD + weigh(profile.getFirstName()) + weigh(profile.getLastName())
+                + weigh(profile.getPhotoId()) + (tags == null ? 0 : tags.size() * 8);
+    }
+
+    private static int weigh(String value) {
+        return value == null ? 0 : OBJECT_OVERHEAD + value.length();
+    }
+}
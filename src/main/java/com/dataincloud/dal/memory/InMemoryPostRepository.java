@@ -0,0 +1,217 @@
+package com.dataincloud.dal.memory;
+
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class InMemoryPostRepository implements IPostRepository {
+    private static final int STREAM_CHUNK_SIZE = 1000;
+
+    private final MemoryStore store;
+
+    @Override
+    public Post create(Post post) {
+        return writing(() -> withUserLocked(createLocked(post)));
+    }
+
+    @Override
+    public List<Post> createAll(List<Post> posts) {
+        return writing(() -> {
+            List<Post> createdPosts = new ArrayList<>(posts.size());
+            for (Post post : posts)
+                createdPosts.add(withUserLocked(createLocked(post)));
+            return createdPosts;
+        });
+    }
+
+    @Override
+    public List<Long> reserveIds(int count) {
+        store.postsLock.writeLock().lock();
+        try {
+            return store.reservePostIdsLocked(count);
+        } finally {
+            store.postsLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Post> insertAll(List<Post> posts) {
+        return writing(() -> {
+            for (Post post : posts) {
+                checkAuthorLocked(post);
+                if (post.getId() == null || store.postLocked(post.getId()) != null)
+                    throw new DuplicateKeyException("Post id is missing or taken");
+            }
+            return posts.stream()
+                    .map(post -> withUserLocked(store.putPostLocked(post)))
+                    .toList();
+        });
+    }
+
+    @Override
+    public List<Post> readAll() {
+        return readPage(null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Post> readPage(Long after, int limit) {
+        return reading(() -> {
+            return store.postsLocked(after == null ? 0L : after, limit).stream()
+                    .map(this::withUserLocked)
+                    .toList();
+        });
+    }
+
+    /**
+     * Hands the posts over in chunks, taking the read lock per chunk only, so a slow consumer does not hold up
+     * writers.
+     */
+    @Override
+    public void streamAll(Consumer<Post> consumer) {
+        long after = 0L;
+        List<Post> chunk;
+        do {
+            chunk = readPage(after, STREAM_CHUNK_SIZE);
+            chunk.forEach(consumer);
+            if (!chunk.isEmpty())
+                after = chunk.get(chunk.size() - 1).getId();
+        } while (chunk.size() == STREAM_CHUNK_SIZE);
+    }
+
+    @Override
+    public long copyFrom(Stream<Post> posts) {
+        return writing(() -> {
+            long[] copied = {0};
+            posts.forEach(post -> {
+                createLocked(post);
+                copied[0]++;
+            });
+            return copied[0];
+        });
+    }
+
+    @Override
+    public Post readById(Long id) {
+        return reading(() -> withUserLocked(existingLocked(id)));
+    }
+
+    @Override
+    public List<Post> readAllById(Collection<Long> ids) {
+        return reading(() -> {
+            List<Post> found = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                Post post = store.postLocked(id);
+                if (post != null)
+                    found.add(withUserLocked(post));
+            }
+            return found;
+        });
+    }
+
+    @Override
+    public Post update(Post post) {
+        return writing(() -> {
+            existingLocked(post.getId());
+            checkAuthorLocked(post);
+            return withUserLocked(store.putPostLocked(post));
+        });
+    }
+
+    @Override
+    public List<Post> updateAll(List<Post> posts) {
+        return writing(() -> {
+            for (Post post : posts) {
+                existingLocked(post.getId());
+                checkAuthorLocked(post);
+            }
+            return posts.stream()
+                    .map(post -> withUserLocked(store.putPostLocked(post)))
+                    .toList();
+        });
+    }
+
+    @Override
+    public List<Post> deleteAllById(List<Long> ids) {
+        return writing(() -> {
+            ids.forEach(this::existingLocked);
+            return ids.stream()
+                    .map(id -> withUserLocked(store.removePostLocked(id)))
+                    .toList();
+        });
+    }
+
+    @Override
+    public Post delete(Long id) {
+        return writing(() -> {
+            existingLocked(id);
+            return withUserLocked(store.removePostLocked(id));
+        });
+    }
+
+    /**
+     * Runs {@code action} holding the users read lock, for author checks and copies, and the posts write lock.
+     */
+    private <T> T writing(Supplier<T> action) {
+        store.usersLock.readLock().lock();
+        store.postsLock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            store.postsLock.writeLock().unlock();
+            store.usersLock.readLock().unlock();
+        }
+    }
+
+    private <T> T reading(Supplier<T> action) {
+        store.usersLock.readLock().lock();
+        store.postsLock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            store.postsLock.readLock().unlock();
+            store.usersLock.readLock().unlock();
+        }
+    }
+
+    private Post createLocked(Post post) {
+        checkAuthorLocked(post);
+        Post newPost = MemoryStore.copy(post);
+        newPost.setId(null);
+        return store.putPostLocked(newPost);
+    }
+
+    /**
+     * Stands in for the posts.user_id foreign key.
+     */
+    private void checkAuthorLocked(Post post) {
+        if (post.getUser() != null && (post.getUser().getId() == null || store.userLocked(post.getUser().getId()) == null))
+            throw new ResourceNotFoundException("User not found");
+    }
+
+    private Post existingLocked(Long id) {
+        Post post = id == null ? null : store.postLocked(id);
+        if (post == null)
+            throw new ResourceNotFoundException("Post not found");
+        return post;
+    }
+
+    private Post withUserLocked(Post stored) {
+        Post post = MemoryStore.copy(stored);
+        if (stored.getUser() != null) {
+            User author = store.userLocked(stored.getUser().getId());
+            post.setUser(author == null ? null : MemoryStore.copy(author));
+        }
+        return post;
+    }
+}
@@ -0,0 +1,111 @@
+package com.dataincloud.dal.memory;
+
+import com.dataincloud.core.UpsertResult;
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.profile.IProfileRepository;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.dal.profile.ProfileTagMask;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class InMemoryProfileRepository implements IProfileRepository {
+    private final MemoryStore store;
+
+    @Override
+    public Profile create(Profile profile) {
+        store.profilesLock.writeLock().lock();
+        try {
+            return MemoryStore.copy(store.putProfileLocked(profile));
+        } finally {
+            store.profilesLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Profile> readAll() {
+        return readPage(null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Profile> readPage(Long after, int limit) {
+        store.profilesLock.readLock().lock();
+        try {
+            return store.profilesLocked(after == null ? 0L : after, limit).stream()
+                    .map(MemoryStore::copy)
+                    .toList();
+        } finally {
+            store.profilesLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Profile> readPageByTags(Set<Profile.ProfileTags> tags, Profile.TagMatch match, Long after, int limit) {
+        store.profilesLock.readLock().lock();
+        try {
+            return store.profilesLocked(ProfileTagMask.of(tags), match, after == null ? 0L : after, limit).stream()
+                    .map(MemoryStore::copy)
+                    .toList();
+        } finally {
+            store.profilesLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Profile readById(Long userId) {
+        store.profilesLock.readLock().lock();
+        try {
+            return MemoryStore.copy(existingLocked(userId));
+        } finally {
+            store.profilesLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Profile update(Profile editedProfile) {
+        store.profilesLock.writeLock().lock();
+        try {
+            existingLocked(editedProfile.getUserId());
+            return MemoryStore.copy(store.putProfileLocked(editedProfile));
+        } finally {
+            store.profilesLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Keeps the stored photo id when the profile comes without one, like the MongoDB upsert.
+     */
+    @Override
+    public UpsertResult<Profile> upsert(Profile profile) {
+        store.profilesLock.writeLock().lock();
+        try {
+            Profile previous = store.profileLocked(profile.getUserId());
+            Profile upserted = MemoryStore.copy(profile);
+            if (previous != null && upserted.getPhotoId() == null)
+                upserted.setPhotoId(previous.getPhotoId());
+            return new UpsertResult<>(MemoryStore.copy(store.putProfileLocked(upserted)), previous == null);
+        } finally {
+            store.profilesLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Profile delete(Long userId) {
+        store.profilesLock.writeLock().lock();
+        try {
+            existingLocked(userId);
+            return MemoryStore.copy(store.removeProfileLocked(userId));
+        } finally {
+            store.profilesLock.writeLock().unlock();
+        }
+    }
+
+    private Profile existingLocked(Long userId) {
+        Profile profile = userId == null ? null : store.profileLocked(userId);
+        if (profile == null)
+            throw new ResourceNotFoundException("Profile not found");
+        return profile;
+    }
+}
@@ -0,0 +1,189 @@
+package com.dataincloud.dal.memory;
+
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.core.user.User;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class InMemoryUserRepository implements IUserRepository {
+    private static final int RECENT_POSTS = 10;
+
+    private final MemoryStore store;
+
+    @Override
+    public User create(User newUser) {
+        store.usersLock.writeLock().lock();
+        try {
+            return created(store.putUserLocked(withoutId(newUser)));
+        } finally {
+            store.usersLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<User> createAll(List<User> newUsers) {
+        store.usersLock.writeLock().lock();
+        try {
+            List<User> createdUsers = new ArrayList<>(newUsers.size());
+            for (User newUser : newUsers)
+                createdUsers.add(created(store.putUserLocked(withoutId(newUser))));
+            return createdUsers;
+        } finally {
+            store.usersLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<User> readAll() {
+        return readPage(null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<User> readPage(Long after, int limit) {
+        store.usersLock.readLock().lock();
+        try {
+            return store.usersLocked(after == null ? 0L : after, limit).stream()
+                    .map(MemoryStore::copy)
+                    .toList();
+        } finally {
+            store.usersLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long copyFrom(Stream<User> users) {
+        store.usersLock.writeLock().lock();
+        try {
+            long[] copied = {0};
+            users.forEach(user -> {
+                store.putUserLocked(withoutId(user));
+                copied[0]++;
+            });
+            return copied[0];
+        } finally {
+            store.usersLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean exists(Long id) {
+        store.usersLock.readLock().lock();
+        try {
+            return store.userLocked(id) != null;
+        } finally {
+            store.usersLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Post> readPosts(Long userId, Long before, int limit) {
+        store.postsLock.readLock().lock();
+        try {
+            return postsWithoutUserLocked(userId, before == null ? Long.MAX_VALUE : before, limit);
+        } finally {
+            store.postsLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<User> readByUsernamePrefix(String prefix, int limit) {
+        return store.usernames().findByPrefix(prefix, limit).stream()
+                .map(MemoryStore::copy)
+                .toList();
+    }
+
+    @Override
+    public User readByUsername(String username) {
+        return store.usernames().findExact(username).stream()
+                .findFirst()
+                .map(MemoryStore::copy)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    @Override
+    public User readById(Long id) {
+        store.usersLock.readLock().lock();
+        try {
+            return withPosts(existingLocked(id));
+        } finally {
+            store.usersLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public User update(User editedUser) {
+        store.usersLock.writeLock().lock();
+        try {
+            existingLocked(editedUser.getId());
+            return withPosts(store.putUserLocked(editedUser));
+        } finally {
+            store.usersLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public User delete(Long id) {
+        store.usersLock.writeLock().lock();
+        try {
+            existingLocked(id);
+            store.postsLock.writeLock().lock();
+            try {
+                return MemoryStore.copy(store.removeUserLocked(id));
+            } finally {
+                store.postsLock.writeLock().unlock();
+            }
+        } finally {
+            store.usersLock.writeLock().unlock();
+        }
+    }
+
+    private User existingLocked(Long id) {
+        User user = id == null ? null : store.userLocked(id);
+        if (user == null)
+            throw new ResourceNotFoundException("User not found");
+        return user;
+    }
+
+    /**
+     * Expects the users lock; takes the posts read lock for the user's posts.
+     */
+    private User withPosts(User stored) {
+        User user = MemoryStore.copy(stored);
+        store.postsLock.readLock().lock();
+        try {
+            user.setPostCount(store.postCountLocked(user.getId()));
+            user.setRecentPosts(postsWithoutUserLocked(user.getId(), Long.MAX_VALUE, RECENT_POSTS));
+        } finally {
+            store.postsLock.readLock().unlock();
+        }
+        return user;
+    }
+
+    private List<Post> postsWithoutUserLocked(long userId, long before, int limit) {
+        return store.userPostsLocked(userId, before, limit).stream()
+                .map(post -> {
+                    Post copy = MemoryStore.copy(post);
+                    copy.setUser(null);
+                    return copy;
+                })
+                .toList();
+    }
+
+    private static User withoutId(User user) {
+        User copy = MemoryStore.copy(user);
+        copy.setId(null);
+        return copy;
+    }
+
+    private static User created(User stored) {
+        User user = MemoryStore.copy(stored);
+        user.setRecentPosts(List.of());
+        return user;
+    }
+}
@@ -0,0 +1,10 @@
+package com.dataincloud.dal.memory;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.core.user.User;
+
+import java.util.List;
+
+record MemorySnapshot(List<User> users, List<Post> posts, List<Profile> profiles) {
+}
@@ -0,0 +1,280 @@
+package com.dataincloud.dal.memory;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.core.user.User;
+import com.dataincloud.dal.profile.ProfileTagMask;
+import com.dataincloud.dal.user.UsernameTrie;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectAVLTreeMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectSortedMap;
+import it.unimi.dsi.fastutil.longs.LongBidirectionalIterator;
+import it.unimi.dsi.fastutil.longs.LongRBTreeSet;
+import it.unimi.dsi.fastutil.longs.LongSortedSet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Users, posts and profiles of the in-memory mode; the users lock is taken before the posts lock.
+ */
+public class MemoryStore {
+    final ReadWriteLock usersLock = new ReentrantReadWriteLock();
+    final ReadWriteLock postsLock = new ReentrantReadWriteLock();
+    final ReadWriteLock profilesLock = new ReentrantReadWriteLock();
+
+    private final Long2ObjectSortedMap<User> users = new Long2ObjectAVLTreeMap<>();
+    private final Long2ObjectSortedMap<Post> posts = new Long2ObjectAVLTreeMap<>();
+    private final Long2ObjectMap<LongSortedSet> postsByUser = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectSortedMap<Profile> profiles = new Long2ObjectAVLTreeMap<>();
+    private final Long2IntMap tagMasks = new Long2IntOpenHashMap();
+    private final UsernameTrie usernames = new UsernameTrie();
+    private long lastUserId;
+    private long lastPostId;
+
+    User userLocked(long id) {
+        return users.get(id);
+    }
+
+    List<User> usersLocked(long after, int limit) {
+        return first(users.tailMap(after + 1).values(), limit);
+    }
+
+    User putUserLocked(User user) {
+        User stored = copy(user);
+        if (stored.getId() == null)
+            stored.setId(++lastUserId);
+        else
+            lastUserId = Math.max(lastUserId, stored.getId());
+        stored.setPostCount(0);
+        stored.setRecentPosts(null);
+        users.put(stored.getId().longValue(), stored);
+        usernames.put(stored);
+        return stored;
+    }
+
+    /**
+     * Expects both the users and the posts write locks.
+     */
+    User removeUserLocked(long id) {
+        User removed = users.remove(id);
+        if (removed == null)
+            return null;
+        usernames.remove(id);
+        LongSortedSet postIds = postsByUser.remove(id);
+        if (postIds != null)
+            postIds.forEach((long postId) -> posts.remove(postId));
+        return removed;
+    }
+
+    UsernameTrie usernames() {
+        return usernames;
+    }
+
+    Post postLocked(long id) {
+        return posts.get(id);
+    }
+
+    List<Post> postsLocked(long after, int limit) {
+        return first(posts.tailMap(after + 1).values(), limit);
+    }
+
+    long postCountLocked(long userId) {
+        LongSortedSet postIds = postsByUser.get(userId);
+        return postIds == null ? 0 : postIds.size();
+    }
+
+    List<Post> userPostsLocked(long userId, long before, int limit) {
+        LongSortedSet postIds = postsByUser.get(userId);
+        if (postIds == null)
+            return List.of();
+        List<Post> found = new ArrayList<>(Math.min(limit, postIds.size()));
+        LongBidirectionalIterator iterator = postIds.iterator(before - 1);
+        while (found.size() < limit && iterator.hasPrevious())
+            found.add(posts.get(iterator.previousLong()));
+        return found;
+    }
+
+    List<Long> reservePostIdsLocked(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            ids.add(++lastPostId);
+        return ids;
+    }
+
+    Post putPostLocked(Post post) {
+        Post stored = copy(post);
+        if (stored.getId() == null)
+            stored.setId(++lastPostId);
+        else
+            lastPostId = Math.max(lastPostId, stored.getId());
+        if (stored.getCreatedDate() == null)
+            stored.setCreatedDate(Calendar.getInstance());
+        if (post.getUser() != null) {
+            User author = new User();
+            author.setId(post.getUser().getId());
+            stored.setUser(author);
+        }
+
+        Post previous = posts.put(stored.getId().longValue(), stored);
+        if (previous != null)
+            unindexLocked(previous);
+        if (stored.getUser() != null)
+            postsByUser.computeIfAbsent(stored.getUser().getId().longValue(), userId -> new LongRBTreeSet())
+                    .add(stored.getId().longValue());
+        return stored;
+    }
+
+    Post removePostLocked(long id) {
+        Post removed = posts.remove(id);
+        if (removed != null)
+            unindexLocked(removed);
+        return removed;
+    }
+
+    private void unindexLocked(Post post) {
+        if (post.getUser() == null)
+            return;
+        LongSortedSet postIds = postsByUser.get(post.getUser().getId().longValue());
+        if (postIds != null)
+            postIds.remove(post.getId().longValue());
+    }
+
+    Profile profileLocked(long userId) {
+        return profiles.get(userId);
+    }
+
+    List<Profile> profilesLocked(long after, int limit) {
+        return first(profiles.tailMap(after + 1).values(), limit);
+    }
+
+    List<Profile> profilesLocked(int wanted, Profile.TagMatch match, long after, int limit) {
+        List<Profile> found = new ArrayList<>(limit);
+        for (Profile profile : profiles.tailMap(after + 1).values()) {
+            if (found.size() == limit)
+                break;
+            if (ProfileTagMask.matches(tagMasks.get(profile.getUserId().longValue()), wanted, match))
+                found.add(profile);
+        }
+        return found;
+    }
+
+    Profile putProfileLocked(Profile profile) {
+        Profile stored = copy(profile);
+        int mask = ProfileTagMask.of(profile.getTags());
+        stored.setTags(ProfileTagMask.tagsOf(mask));
+        profiles.put(stored.getUserId().longValue(), stored);
+        tagMasks.put(stored.getUserId().longValue(), mask);
+        return stored;
+    }
+
+    Profile removeProfileLocked(long userId) {
+        tagMasks.remove(userId);
+        return profiles.remove(userId);
+    }
+
+    public void load(Path file, ObjectMapper objectMapper) throws IOException {
+        if (!Files.exists(file))
+            return;
+        MemorySnapshot snapshot = objectMapper.readValue(file.toFile(), MemorySnapshot.class);
+
+        usersLock.writeLock().lock();
+        postsLock.writeLock().lock();
+        profilesLock.writeLock().lock();
+        try {
+            users.clear();
+            posts.clear();
+            postsByUser.clear();
+            profiles.clear();
+            tagMasks.clear();
+            usernames.rebuild(Stream.empty());
+            lastUserId = 0;
+            lastPostId = 0;
+            snapshot.users().forEach(this::putUserLocked);
+            snapshot.posts().forEach(this::putPostLocked);
+            snapshot.profiles().forEach(this::putProfileLocked);
+        } finally {
+            profilesLock.writeLock().unlock();
+            postsLock.writeLock().unlock();
+            usersLock.writeLock().unlock();
+        }
+    }
+
+    public void save(Path file, ObjectMapper objectMapper) throws IOException {
+        MemorySnapshot snapshot;
+        usersLock.readLock().lock();
+        postsLock.readLock().lock();
+        profilesLock.readLock().lock();
+        try {
+            snapshot = new MemorySnapshot(List.copyOf(users.values()), List.copyOf(posts.values()),
+                    List.copyOf(profiles.values()));
+        } finally {
+            profilesLock.readLock().unlock();
+            postsLock.readLock().unlock();
+            usersLock.readLock().unlock();
+        }
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            objectMapper.writeValue(temporary.toFile(), snapshot);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static <T> List<T> first(Iterable<T> values, int limit) {
+        List<T> found = new ArrayList<>(Math.min(limit, 64));
+        for (T value : values) {
+            if (found.size() == limit)
+                break;
+            found.add(value);
+        }
+        return found;
+    }
+
+    static User copy(User user) {
+        User copy = new User();
+        copy.setId(user.getId());
+        copy.setUsername(user.getUsername());
+        copy.setBirthDate(user.getBirthDate() == null ? null : (Calendar) user.getBirthDate().clone());
+        copy.setPostCount(user.getPostCount());
+        copy.setRecentPosts(user.getRecentPosts());
+        return copy;
+    }
+
+    static Post copy(Post post) {
+        Post copy = new Post();
+        copy.setId(post.getId());
+        copy.setHeader(post.getHeader());
+        copy.setDescription(post.getDescription());
+        copy.setCreatedDate(post.getCreatedDate() == null ? null : (Calendar) post.getCreatedDate().clone());
+        copy.setUser(post.getUser());
+        return copy;
+    }
+
+    static Profile copy(Profile profile) {
+        Profile copy = new Profile();
+        copy.setUserId(profile.getUserId());
+        copy.setFirstName(profile.getFirstName());
+        copy.setLastName(profile.getLastName());
+        copy.setPhotoId(profile.getPhotoId());
+        copy.setBirthDate(profile.getBirthDate());
+        copy.setTags(profile.getTags() == null ? new ArrayList<>() : new ArrayList<>(profile.getTags()));
+        return copy;
+    }
+}
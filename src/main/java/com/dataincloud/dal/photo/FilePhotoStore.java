@@ -0,0 +1,91 @@
+package com.dataincloud.dal.photo;
+
+import com.dataincloud.core.exceptions.PhotoTooLargeException;
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.profile.IPhotoStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed photo store on the local file system. A photo is streamed to a temporary file while its SHA-256
+ * is computed, then atomically moved to {@code <directory>/<first two hex digits>/<sha256>}; the hash is the photo id,
+ * so identical uploads share one file and a stored photo never changes. Uploads are copied through a fixed buffer and
+ * rejected as soon as they exceed {@code maxSize}, so memory use does not depend on the photo size.
+ */
+@RequiredArgsConstructor
+public class FilePhotoStore implements IPhotoStore {
+    private static final Pattern PHOTO_ID = Pattern.compile("[0-9a-f]{64}");
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path directory;
+    private final long maxSize;
+
+    @Override
+    public String save(InputStream content) {
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, "upload-", ".tmp");
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                try (InputStream digestingContent = new DigestInputStream(content, digest);
+                     OutputStream output = Files.newOutputStream(temporary)) {
+                    copyBounded(digestingContent, output);
+                }
+
+                String photoId = HexFormat.of().formatHex(digest.digest());
+                Path target = resolve(photoId);
+                Files.createDirectories(target.getParent());
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+                return photoId;
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public Resource read(String photoId) {
+        if (photoId == null || !PHOTO_ID.matcher(photoId).matches())
+            throw new ResourceNotFoundException("Photo not found");
+
+        Path photo = resolve(photoId);
+        if (!Files.isRegularFile(photo))
+            throw new ResourceNotFoundException("Photo not found");
+        return new FileSystemResource(photo);
+    }
+
+    private void copyBounded(InputStream input, OutputStream output) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            total += read;
+            if (total > maxSize)
+                throw new PhotoTooLargeException("Photo exceeds " + maxSize + " bytes");
+            output.write(buffer, 0, read);
+        }
+    }
+
+    private Path resolve(String photoId) {
+        return directory.resolve(photoId.substring(0, 2)).resolve(photoId);
+    }
+}
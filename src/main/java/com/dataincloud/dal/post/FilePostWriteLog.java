@@ -0,0 +1,240 @@
+package com.dataincloud.dal.post;
+
+import com.dataincloud.core.post.IPostWriteLog;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.user.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of accepted posts, one JSON document per line, in segment files deleted once their posts are stored.
+ */
+public class FilePostWriteLog implements IPostWriteLog, Closeable {
+    private final Path directory;
+    private final String prefix;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+    private final long segmentSize;
+    private final Lock appendLock = new ReentrantLock();
+    private final Lock forceLock = new ReentrantLock();
+    private final Long2ObjectMap<Segment> segmentOf = new Long2ObjectOpenHashMap<>();
+
+    private long lastSegment;
+    private Segment active;
+    private volatile long writtenBytes;
+    private volatile long forcedBytes;
+
+    public FilePostWriteLog(Path file, ObjectMapper objectMapper, boolean fsync, long segmentSize) {
+        this.directory = file.toAbsolutePath().getParent();
+        this.prefix = file.getFileName() + ".";
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            lastSegment = segments().stream().mapToLong(this::numberOf).max().orElse(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private FileChannel channel;
+        private long size;
+        private int pending;
+
+        private Segment(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+    }
+
+    @Override
+    public List<Post> recover() {
+        appendLock.lock();
+        try {
+            List<Post> posts = new ArrayList<>();
+            for (Path path : segments()) {
+                if (active != null && path.equals(active.path))
+                    continue;
+                Segment segment = new Segment(path, null);
+                try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        Post post;
+                        try {
+                            post = objectMapper.readValue(line, Post.class);
+                        } catch (JsonProcessingException e) {
+                            break;
+                        }
+                        if (segmentOf.putIfAbsent(post.getId().longValue(), segment) == null) {
+                            segment.pending++;
+                            posts.add(post);
+                        }
+                    }
+                }
+                if (segment.pending == 0)
+                    Files.deleteIfExists(path);
+            }
+            return posts;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void append(Post post) {
+        long end;
+        FileChannel channel;
+        try {
+            byte[] line = (objectMapper.writeValueAsString(toEntry(post)) + '\n').getBytes(StandardCharsets.UTF_8);
+            appendLock.lock();
+            try {
+                if (active == null || active.size >= segmentSize)
+                    roll();
+                channel = active.channel;
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining())
+                    channel.write(buffer);
+                active.size += line.length;
+                active.pending++;
+                segmentOf.put(post.getId().longValue(), active);
+                end = writtenBytes + line.length;
+                writtenBytes = end;
+            } finally {
+                appendLock.unlock();
+            }
+            if (fsync)
+                force(channel, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void committed(List<Post> posts) {
+        appendLock.lock();
+        try {
+            for (Post post : posts) {
+                Segment segment = segmentOf.remove(post.getId().longValue());
+                if (segment != null && --segment.pending == 0)
+                    release(segment);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (active != null)
+                active.channel.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void roll() throws IOException {
+        Segment previous = active;
+        Path path = directory.resolve(prefix + ++lastSegment);
+        active = new Segment(path, FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+        if (previous == null)
+            return;
+        if (fsync) {
+            forceLock.lock();
+            try {
+                previous.channel.force(false);
+                forcedBytes = writtenBytes;
+            } finally {
+                forceLock.unlock();
+            }
+        }
+        previous.channel.close();
+        previous.channel = null;
+        if (previous.pending == 0)
+            Files.deleteIfExists(previous.path);
+    }
+
+    private void release(Segment segment) throws IOException {
+        if (segment == active) {
+            active.channel.truncate(0);
+            active.channel.position(0);
+            active.size = 0;
+        } else {
+            Files.deleteIfExists(segment.path);
+        }
+    }
+
+    private void force(FileChannel channel, long end) throws IOException {
+        if (forcedBytes >= end)
+            return;
+        forceLock.lock();
+        try {
+            if (forcedBytes >= end)
+                return;
+            long written = writtenBytes;
+            channel.force(false);
+            forcedBytes = written;
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> isSegment(path.getFileName().toString()))
+                    .sorted(Comparator.comparingLong(this::numberOf))
+                    .toList();
+        }
+    }
+
+    private boolean isSegment(String name) {
+        return name.length() > prefix.length() && name.startsWith(prefix)
+                && name.chars().skip(prefix.length()).allMatch(Character::isDigit);
+    }
+
+    private long numberOf(Path segment) {
+        return Long.parseLong(segment.getFileName().toString().substring(prefix.length()));
+    }
+
+    private static Post toEntry(Post post) {
+        Post entry = new Post();
+        entry.setId(post.getId());
+        entry.setHeader(post.getHeader());
+        entry.setDescription(post.getDescription());
+        entry.setCreatedDate(post.getCreatedDate());
+        if (post.getUser() != null) {
+            User author = new User();
+            author.setId(post.getUser().getId());
+            entry.setUser(author);
+        }
+        return entry;
+    }
+}
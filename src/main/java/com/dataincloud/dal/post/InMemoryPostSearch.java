@@ -0,0 +1,142 @@
+package com.dataincloud.dal.post;
+
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.post.RankedPost;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-process inverted index for databases without full-text search (H2 in tests). Postings map a lower-cased term to
+ * the weighted term frequency per post, with header terms weighing 1.0 and description terms 0.4 like tsvector
+ * weights A and B. Every query term must match; there is no stemming. Only ids are kept in the index, hits are
+ * loaded from the repository, so posts removed behind its back (cascading user deletes) simply drop out.
+ */
+@RequiredArgsConstructor
+public class InMemoryPostSearch implements IPostSearch {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float HEADER_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 0.4f;
+
+    private final Supplier<List<Post>> allPosts;
+    private final Function<List<Long>, List<Post>> postsById;
+
+    private final Map<String, Map<Long, Float>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> termsByPost = new ConcurrentHashMap<>();
+    private final Lock writeLock = new ReentrantLock();
+
+    @Override
+    public List<RankedPost> search(String query, float afterRank, long afterId, int limit) {
+        List<String> terms = tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty())
+            return List.of();
+
+        Map<Long, Float> scores = new HashMap<>(postings.getOrDefault(terms.get(0), Map.of()));
+        for (String term : terms.subList(1, terms.size())) {
+            Map<Long, Float> termPostings = postings.getOrDefault(term, Map.of());
+            scores.keySet().retainAll(termPostings.keySet());
+            scores.replaceAll((postId, score) -> score + termPostings.getOrDefault(postId, 0f));
+        }
+
+        List<Map.Entry<Long, Float>> hits = scores.entrySet().stream()
+                .filter(hit -> hit.getValue() < afterRank || (hit.getValue() == afterRank && hit.getKey() > afterId))
+                .sorted(Map.Entry.<Long, Float>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .toList();
+
+        Map<Long, Post> posts = postsById.apply(hits.stream().map(Map.Entry::getKey).toList()).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<RankedPost> rankedPosts = new ArrayList<>(hits.size());
+        for (Map.Entry<Long, Float> hit : hits) {
+            Post post = posts.get(hit.getKey());
+            if (post != null)
+                rankedPosts.add(new RankedPost(post, hit.getValue()));
+        }
+        return rankedPosts;
+    }
+
+    @Override
+    public void index(Post post) {
+        writeLock.lock();
+        try {
+            indexLocked(post);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        writeLock.lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Loads the posts before taking the write lock, so neither writers nor a virtual thread's carrier are held for the
+     * duration of the query.
+     */
+    @Override
+    public void rebuild() {
+        List<Post> posts = allPosts.get();
+
+        writeLock.lock();
+        try {
+            postings.clear();
+            termsByPost.clear();
+            posts.forEach(this::indexLocked);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void indexLocked(Post post) {
+        removeLocked(post.getId());
+
+        Map<String, Float> weights = new HashMap<>();
+        tokenize(post.getHeader()).forEach(term -> weights.merge(term, HEADER_WEIGHT, Float::sum));
+        tokenize(post.getDescription()).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Float::sum));
+
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(post.getId(), weight));
+        termsByPost.put(post.getId(), weights.keySet());
+    }
+
+    private void removeLocked(Long postId) {
+        Set<String> terms = termsByPost.remove(postId);
+        if (terms == null)
+            return;
+        for (String term : terms) {
+            postings.computeIfPresent(term, (key, termPostings) -> {
+                termPostings.remove(postId);
+                return termPostings.isEmpty() ? null : termPostings;
+            });
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank())
+            return List.of();
+        return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,21 @@
+package com.dataincloud.dal.post;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.user.User;
+import com.dataincloud.dal.user.UserJpa;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper
+public interface PostJpaMapper {
+    PostJpa toJpa(Post post);
+
+    Post toDomain(PostJpa postJpa);
+
+    @Mapping(target = "posts", ignore = true)
+    UserJpa toUserJpa(User user);
+
+    @Mapping(target = "postCount", ignore = true)
+    @Mapping(target = "recentPosts", ignore = true)
+    User toUserWithoutPosts(UserJpa userJpa);
+}
@@ -1,11 +1,26 @@
 package com.dataincloud.dal.post;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PostJpaRepository extends JpaRepository<PostJpa, Long> {
     @Query("SELECT p FROM PostJpa p JOIN FETCH p.user")
     List<PostJpa> findAllFetch();
+
+    @Query("SELECT p FROM PostJpa p LEFT JOIN FETCH p.user")
+    List<PostJpa> findAllWithUser();
+
+    @Query("SELECT p FROM PostJpa p LEFT JOIN FETCH p.user WHERE p.id IN :ids")
+    List<PostJpa> findAllByIdFetch(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM PostJpa p JOIN FETCH p.user WHERE p.id > :after ORDER BY p.id")
+    List<PostJpa> findPageFetch(@Param("after") Long after, Limit limit);
+
+    @Query("SELECT p FROM PostJpa p WHERE p.user.id = :userId AND p.id < :before ORDER BY p.id DESC")
+    List<PostJpa> findUserPage(@Param("userId") Long userId, @Param("before") Long before, Limit limit);
 }
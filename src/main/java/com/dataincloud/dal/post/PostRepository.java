@@ -3,58 +3,191 @@ package com.dataincloud.dal.post;
 import com.dataincloud.core.exceptions.ResourceNotFoundException;
 import com.dataincloud.core.post.IPostRepository;
 import com.dataincloud.core.post.Post;
-import jakarta.transaction.Transactional;
+import com.dataincloud.dal.BulkCopy;
+import com.dataincloud.dal.PooledIds;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @Transactional
 @RequiredArgsConstructor
 public class PostRepository implements IPostRepository {
+    private static final int STREAM_FETCH_SIZE = 1000;
+    private static final String STREAM_QUERY = """
+            SELECT %s
+            FROM posts p LEFT JOIN users u ON u.id = p.user_id
+            ORDER BY p.id
+            """.formatted(PostRows.COLUMNS);
+    private static final List<String> COPY_COLUMNS = List.of("id", "header", "description", "created_date", "user_id");
+    private static final String ID_SEQUENCE = "posts_id_seq";
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final String INSERT_QUERY =
+            "INSERT INTO posts (id, header, description, created_date, user_id) VALUES (?, ?, ?, ?, ?)";
+
     private final PostJpaRepository postRepository;
-    private final ModelMapper modelMapper;
+    private final PostJpaMapper postMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Post create(Post post) {
-        return modelMapper.map(
-            postRepository.save(modelMapper.map(post, PostJpa.class)), Post.class
+        return postMapper.toDomain(
+            postRepository.save(postMapper.toJpa(post))
         );
     }
 
     @Override
+    public List<Post> createAll(List<Post> posts) {
+        return postRepository.saveAll(posts.stream().map(postMapper::toJpa).toList()).stream()
+                .map(postMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Post> readAll() {
         return postRepository.findAllFetch().stream()
-                .peek(postJpa -> postJpa.getUser().setPosts(null))
-                .map(postJpa -> modelMapper.map(postJpa, Post.class))
+                .map(postMapper::toDomain)
                 .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Post> readPage(Long after, int limit) {
+        return postRepository.findPageFetch(after == null ? 0L : after, Limit.of(limit)).stream()
+                .map(postMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Post> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    STREAM_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+            );
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(PostRows.map(resultSet)));
+    }
+
+    /**
+     * Ids come from {@link PooledIds}, as the column default would take a whole block per row.
+     */
+    @Override
+    public long copyFrom(Stream<Post> posts) {
+        return BulkCopy.copyWithIds(jdbcTemplate, "posts", COPY_COLUMNS, posts, new PooledIds(jdbcTemplate, ID_SEQUENCE),
+                (id, post) -> new Object[]{
+                        id,
+                        post.getHeader(),
+                        post.getDescription(),
+                        BulkCopy.toLocalDateTime(post.getCreatedDate()),
+                        post.getUser() == null ? null : post.getUser().getId()
+                });
+    }
+
+    /**
+     * Takes whole blocks off {@code posts_id_seq} like Hibernate's pooled optimizer, so reserved ids never collide with
+     * the ones {@link #create(Post)} assigns.
+     */
+    @Override
+    public List<Long> reserveIds(int count) {
+        return new PooledIds(jdbcTemplate, ID_SEQUENCE).take(count);
+    }
+
+    /**
+     * Sends the rows as JDBC batches in one transaction, which the Postgres driver rewrites to multi-row INSERTs.
+     */
+    @Override
+    public List<Post> insertAll(List<Post> posts) {
+        jdbcTemplate.batchUpdate(INSERT_QUERY, posts, INSERT_BATCH_SIZE, (statement, post) -> {
+            statement.setLong(1, post.getId());
+            statement.setString(2, post.getHeader());
+            statement.setString(3, post.getDescription());
+            statement.setObject(4, BulkCopy.toLocalDateTime(post.getCreatedDate()));
+            statement.setObject(5, post.getUser() == null ? null : post.getUser().getId(), Types.BIGINT);
+        });
+        return posts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Post readById(Long id) {
         PostJpa foundPost = postRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Post not found"));
-        foundPost.getUser().setPosts(null);
 
-        return modelMapper.map(
-                foundPost, Post.class
-        );
+        return postMapper.toDomain(foundPost);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Post> readAllById(Collection<Long> ids) {
+        return postRepository.findAllByIdFetch(ids).stream()
+                .map(postMapper::toDomain)
+                .toList();
     }
 
     @Override
     public Post update(Post post) {
-        return modelMapper.map(
-                postRepository.save(modelMapper.map(post, PostJpa.class)), Post.class
+        return postMapper.toDomain(
+                postRepository.save(postMapper.toJpa(post))
         );
     }
 
+    /**
+     * Loads all edited posts with one query first, so merging them does not issue a SELECT per post and the UPDATEs
+     * are flushed as one JDBC batch.
+     */
+    @Override
+    public List<Post> updateAll(List<Post> posts) {
+        findAllOrThrow(posts.stream().map(Post::getId).toList());
+        return postRepository.saveAll(posts.stream().map(postMapper::toJpa).toList()).stream()
+                .map(postMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Post> deleteAllById(List<Long> ids) {
+        List<PostJpa> foundPosts = findAllOrThrow(ids);
+        List<Post> deletedPosts = foundPosts.stream()
+                .map(postMapper::toDomain)
+                .toList();
+        postRepository.deleteAllInBatch(foundPosts);
+        return deletedPosts;
+    }
+
     @Override
     public Post delete(Long id) {
-        Post deletedPost = modelMapper.map(
-                postRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Post not found")), Post.class
+        Post deletedPost = postMapper.toDomain(
+                postRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Post not found"))
         );
         postRepository.deleteById(id);
         return deletedPost;
     }
+
+    private List<PostJpa> findAllOrThrow(List<Long> ids) {
+        Map<Long, PostJpa> foundPosts = postRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(PostJpa::getId, Function.identity()));
+        return ids.stream()
+                .map(id -> {
+                    PostJpa post = foundPosts.get(id);
+                    if (post == null)
+                        throw new ResourceNotFoundException("Post not found");
+                    return post;
+                })
+                .toList();
+    }
 }
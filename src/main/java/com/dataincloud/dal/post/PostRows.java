@@ -0,0 +1,46 @@
+package com.dataincloud.dal.post;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.user.User;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Maps rows of the plain JDBC post queries, selecting
+ * {@code id, header, description, created_date, user_id, username, birth_date}, to domain posts.
+ */
+final class PostRows {
+    static final String COLUMNS = "p.id, p.header, p.description, p.created_date, p.user_id, u.username, u.birth_date";
+
+    private PostRows() {
+    }
+
+    static Post map(ResultSet resultSet) throws SQLException {
+        Post post = new Post();
+        post.setId(resultSet.getLong("id"));
+        post.setHeader(resultSet.getString("header"));
+        post.setDescription(resultSet.getString("description"));
+        post.setCreatedDate(toCalendar(resultSet.getTimestamp("created_date")));
+
+        long userId = resultSet.getLong("user_id");
+        if (!resultSet.wasNull()) {
+            User user = new User();
+            user.setId(userId);
+            user.setUsername(resultSet.getString("username"));
+            user.setBirthDate(toCalendar(resultSet.getDate("birth_date")));
+            post.setUser(user);
+        }
+        return post;
+    }
+
+    private static Calendar toCalendar(Date date) {
+        if (date == null)
+            return null;
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        return calendar;
+    }
+}
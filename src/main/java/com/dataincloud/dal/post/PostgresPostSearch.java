@@ -0,0 +1,55 @@
+package com.dataincloud.dal.post;
+
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.post.RankedPost;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Searches the {@code posts.search_vector} tsvector column, which a trigger keeps in sync with header (weight A) and
+ * description (weight B) and a GIN index makes selective. Ranks come from {@code ts_rank}, so indexing hooks are
+ * no-ops here.
+ */
+@RequiredArgsConstructor
+public class PostgresPostSearch implements IPostSearch {
+    private static final String SEARCH_QUERY = """
+            WITH matches AS (
+                SELECT p.id, ts_rank(p.search_vector, q.query) AS rank
+                FROM posts p, websearch_to_tsquery('english', ?) AS q(query)
+                WHERE p.search_vector @@ q.query
+            )
+            SELECT %s, m.rank
+            FROM matches m
+            JOIN posts p ON p.id = m.id
+            LEFT JOIN users u ON u.id = p.user_id
+            WHERE m.rank < ? OR (m.rank = ? AND m.id > ?)
+            ORDER BY m.rank DESC, m.id
+            LIMIT ?
+            """.formatted(PostRows.COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RankedPost> search(String query, float afterRank, long afterId, int limit) {
+        return jdbcTemplate.query(SEARCH_QUERY,
+                (resultSet, rowNum) -> new RankedPost(PostRows.map(resultSet), resultSet.getFloat("rank")),
+                query, afterRank, afterRank, afterId, limit);
+    }
+
+    @Override
+    public void index(Post post) {
+    }
+
+    @Override
+    public void remove(Long postId) {
+    }
+
+    @Override
+    public void rebuild() {
+    }
+}
@@ -1,21 +1,21 @@
 package com.dataincloud.dal.profile;
 
-import com.dataincloud.core.profile.Profile;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Document("profiles")
+@CompoundIndex(name = "profiles_tags_mask_idx", def = "{'tagsMask': 1, '_id': 1}")
 @Data
 public class ProfileDocument {
     @Id
     private Long userId;
     private String firstName;
     private String lastName;
-    private Byte[] photo;
+    private String photoId;
     private LocalDate birthDate;
-    private List<Profile.ProfileTags> tagsList;
+    private int tagsMask;
 }
@@ -0,0 +1,24 @@
+package com.dataincloud.dal.profile;
+
+import com.dataincloud.core.profile.Profile;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper
+public interface ProfileDocumentMapper {
+    @Mapping(target = "tagsMask", source = "tags")
+    ProfileDocument toDocument(Profile profile);
+
+    @Mapping(target = "tags", source = "tagsMask")
+    Profile toDomain(ProfileDocument profileDocument);
+
+    default int toTagsMask(List<Profile.ProfileTags> tags) {
+        return ProfileTagMask.of(tags);
+    }
+
+    default List<Profile.ProfileTags> toTags(int tagsMask) {
+        return ProfileTagMask.tagsOf(tagsMask);
+    }
+}
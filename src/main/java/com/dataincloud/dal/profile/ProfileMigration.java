@@ -0,0 +1,103 @@
+package com.dataincloud.dal.profile;
+
+import com.dataincloud.core.profile.Profile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Brings the profiles collection to the shape {@link ProfileDocument} expects before the application serves requests,
+ * as nothing runs the scripts in {@code db/migration/mongo}: creates the indexes declared on the document, which Spring
+ * Data leaves alone unless auto-index-creation is on, and converts profiles still holding a {@code tagsList} to a
+ * {@code tagsMask}. Both steps are idempotent, so every instance runs them on startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileMigration implements InitializingBean {
+    private static final String TAGS_LIST = "tagsList";
+    private static final int BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        ensureIndexes();
+        long converted = convertTagsLists();
+        if (converted > 0)
+            log.info("Converted the tags of {} profiles to a mask", converted);
+    }
+
+    private void ensureIndexes() {
+        IndexOperations indexes = mongoTemplate.indexOps(ProfileDocument.class);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(ProfileDocument.class)
+                .forEach(indexes::ensureIndex);
+    }
+
+    /**
+     * Updates are conditional on the list still being there, so a profile converted by another instance meanwhile is
+     * left alone.
+     */
+    private long convertTagsLists() {
+        Query legacy = query(where(TAGS_LIST).exists(true));
+        legacy.fields().include(TAGS_LIST);
+        String collection = mongoTemplate.getCollectionName(ProfileDocument.class);
+
+        long converted = 0;
+        List<Document> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<Document> profiles = mongoTemplate.stream(legacy, Document.class, collection)) {
+            Iterator<Document> iterator = profiles.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE)
+                    converted += convert(batch);
+            }
+        }
+        if (!batch.isEmpty())
+            converted += convert(batch);
+        return converted;
+    }
+
+    private int convert(List<Document> profiles) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProfileDocument.class);
+        for (Document profile : profiles) {
+            int mask = maskOf(profile.getList(TAGS_LIST, Object.class));
+            bulk.updateOne(
+                    query(where("_id").is(profile.get("_id")).and(TAGS_LIST).exists(true)),
+                    new Update().set(ProfileTagMask.FIELD, mask).unset(TAGS_LIST)
+            );
+        }
+        int modified = bulk.execute().getModifiedCount();
+        profiles.clear();
+        return modified;
+    }
+
+    /**
+     * Names that are no tag any more are dropped, as the mongo script did.
+     */
+    private static int maskOf(List<Object> tagsList) {
+        if (tagsList == null)
+            return 0;
+        return ProfileTagMask.of(Arrays.stream(Profile.ProfileTags.values())
+                .filter(tag -> tagsList.contains(tag.name()))
+                .toList());
+    }
+}
@@ -1,6 +1,10 @@
 package com.dataincloud.dal.profile;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.List;
+
 public interface ProfileMongoDbRepository extends MongoRepository<ProfileDocument, Long> {
+    List<ProfileDocument> findByUserIdGreaterThanOrderByUserIdAsc(Long userId, Limit limit);
 }
@@ -1,45 +1,86 @@
 package com.dataincloud.dal.profile;
 
+import com.dataincloud.core.UpsertResult;
 import com.dataincloud.core.exceptions.ResourceNotFoundException;
 import com.dataincloud.core.profile.IProfileRepository;
 import com.dataincloud.core.profile.Profile;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 @Repository
 @Transactional
 @RequiredArgsConstructor
 public class ProfileRepository implements IProfileRepository {
     private final ProfileMongoDbRepository profileRepository;
-    private final ModelMapper modelMapper;
+    private final ProfileDocumentMapper profileMapper;
+    private final MongoTemplate mongoTemplate;
 
     @Override
     public Profile create(Profile profile) {
-        return modelMapper.map(
-                profileRepository.save(modelMapper.map(profile, ProfileDocument.class)),
-                Profile.class
+        return profileMapper.toDomain(
+                profileRepository.save(profileMapper.toDocument(profile))
         );
     }
 
+    /**
+     * Inserts the whole batch with one bulk write instead of a save per profile.
+     */
+    @Override
+    public List<Profile> createAll(List<Profile> profiles) {
+        return mongoTemplate.insert(profiles.stream().map(profileMapper::toDocument).toList(), ProfileDocument.class)
+                .stream()
+                .map(profileMapper::toDomain)
+                .toList();
+    }
+
     @Override
+    @Transactional(readOnly = true)
     public List<Profile> readAll() {
         return profileRepository.findAll().stream()
-                .map(profileDocument -> modelMapper.map(profileDocument, Profile.class))
+                .map(profileMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Profile> readPage(Long after, int limit) {
+        return profileRepository.findByUserIdGreaterThanOrderByUserIdAsc(after == null ? 0L : after, Limit.of(limit)).stream()
+                .map(profileMapper::toDomain)
                 .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Profile> readPageByTags(Set<Profile.ProfileTags> tags, Profile.TagMatch match, Long after, int limit) {
+        Query query = query(ProfileTagMask.matching(tags, match).and("_id").gt(after == null ? 0L : after))
+                .with(Sort.by("_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, ProfileDocument.class).stream()
+                .map(profileMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Profile readById(Long userId) {
-        return modelMapper.map(
+        return profileMapper.toDomain(
                 profileRepository.findById(userId)
                         .orElseThrow(
                                 () -> new ResourceNotFoundException("Profile not found")
-                        ),
-                Profile.class
+                        )
         );
     }
 
@@ -48,22 +89,43 @@ public class ProfileRepository implements IProfileRepository {
         if(!profileRepository.existsById(editedProfile.getUserId()))
             throw new ResourceNotFoundException("Profile not found");
 
-        return modelMapper.map(
-                profileRepository.save(modelMapper.map(editedProfile, ProfileDocument.class)),
-                Profile.class
+        return profileMapper.toDomain(
+                profileRepository.save(profileMapper.toDocument(editedProfile))
+        );
+    }
+
+    /**
+     * Creates or replaces the profile with one {@code findAndModify(upsert)}. The pre-image tells whether the document
+     * existed, and supplies the stored photo id when the profile comes without one.
+     */
+    @Override
+    public UpsertResult<Profile> upsert(Profile profile) {
+        ProfileDocument document = profileMapper.toDocument(profile);
+        Update update = new Update()
+                .set("firstName", document.getFirstName())
+                .set("lastName", document.getLastName())
+                .set("birthDate", document.getBirthDate())
+                .set(ProfileTagMask.FIELD, document.getTagsMask());
+        if (document.getPhotoId() != null)
+            update.set("photoId", document.getPhotoId());
+
+        ProfileDocument previous = mongoTemplate.findAndModify(
+                query(where("_id").is(document.getUserId())), update,
+                FindAndModifyOptions.options().upsert(true).returnNew(false), ProfileDocument.class
         );
+        if (previous != null && document.getPhotoId() == null)
+            document.setPhotoId(previous.getPhotoId());
+        return new UpsertResult<>(profileMapper.toDomain(document), previous == null);
     }
 
     @Override
     public Profile delete(Long userId) {
-        Profile deletedProfile = modelMapper.map(
+        Profile deletedProfile = profileMapper.toDomain(
                 profileRepository.findById(userId)
                         .orElseThrow(
                                 () -> new ResourceNotFoundException("Profile not found"))
-                ,
-                Profile.class
         );
         profileRepository.deleteById(userId);
         return deletedProfile;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package com.dataincloud.dal.profile;
+
+import com.dataincloud.core.profile.Profile;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Encodes profile tags as a bitmask, one bit per {@link Profile.ProfileTags} ordinal. While the enum is small the
+ * masks satisfying a filter are enumerated into an {@code $in}, which the {@code tagsMask} index answers with point
+ * lookups; {@code $bitsAllSet}/{@code $bitsAnySet} would have to test every index key.
+ */
+public final class ProfileTagMask {
+    public static final String FIELD = "tagsMask";
+
+    private static final Profile.ProfileTags[] TAGS = Profile.ProfileTags.values();
+    private static final int ENUMERATION_LIMIT = 8;
+
+    private ProfileTagMask() {
+    }
+
+    public static int of(Collection<Profile.ProfileTags> tags) {
+        int mask = 0;
+        if (tags != null)
+            for (Profile.ProfileTags tag : tags)
+                mask |= 1 << tag.ordinal();
+        return mask;
+    }
+
+    public static List<Profile.ProfileTags> tagsOf(int mask) {
+        List<Profile.ProfileTags> tags = new ArrayList<>(Integer.bitCount(mask));
+        for (Profile.ProfileTags tag : TAGS)
+            if ((mask & 1 << tag.ordinal()) != 0)
+                tags.add(tag);
+        return tags;
+    }
+
+    public static boolean matches(int mask, int wanted, Profile.TagMatch match) {
+        return match == Profile.TagMatch.ALL ? (mask & wanted) == wanted : (mask & wanted) != 0;
+    }
+
+    public static Criteria matching(Collection<Profile.ProfileTags> tags, Profile.TagMatch match) {
+        int wanted = of(tags);
+        if (TAGS.length > ENUMERATION_LIMIT)
+            return match == Profile.TagMatch.ALL
+                    ? where(FIELD).bits().allSet(wanted)
+                    : where(FIELD).bits().anySet(wanted);
+
+        List<Integer> masks = new ArrayList<>();
+        for (int mask = 0; mask < 1 << TAGS.length; mask++)
+            if (matches(mask, wanted, match))
+                masks.add(mask);
+        return where(FIELD).in(masks);
+    }
+}
@@ -0,0 +1,58 @@
+package com.dataincloud.dal.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the current thread as having to read from the primary, because the client wrote recently and a replica may
+ * not have caught up yet.
+ */
+public final class ReadYourWrites {
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * Runs {@code read} against the primary and restores the previous pin. For loads whose result outlives the
+     * request, as a cache entry does: a replica lagging behind a write would have its old value cached after the
+     * invalidation that followed the write, and served until it expires.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        if (isPinnedToPrimary())
+            return read.get();
+        pinToPrimary();
+        try {
+            return read.get();
+        } finally {
+            clear();
+        }
+    }
+
+    /**
+     * Carries the pin of the submitting thread over to a task run on another thread.
+     */
+    public static Runnable propagate(Runnable task) {
+        boolean pinned = isPinnedToPrimary();
+        return () -> {
+            if (pinned)
+                pinToPrimary();
+            try {
+                task.run();
+            } finally {
+                clear();
+            }
+        };
+    }
+}
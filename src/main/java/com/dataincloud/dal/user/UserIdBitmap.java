@@ -0,0 +1,62 @@
+package com.dataincloud.dal.user;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent bitmap of user ids known to exist, split into lazily allocated 64 Ki-id chunks. Lookups neither lock nor
+ * allocate. The bitmap only answers "known to exist": ids created by other nodes or by bulk COPY are not in it
+ * until they are confirmed by a query.
+ */
+class UserIdBitmap {
+    private static final int CHUNK_SHIFT = 16;
+    private static final int WORDS_PER_CHUNK = (1 << CHUNK_SHIFT) / Long.SIZE;
+
+    private volatile AtomicLongArray[] chunks = new AtomicLongArray[0];
+
+    boolean contains(long id) {
+        AtomicLongArray chunk = chunk(id);
+        return chunk != null && (chunk.get(word(id)) & mask(id)) != 0;
+    }
+
+    void add(long id) {
+        if (id < 0)
+            return;
+        AtomicLongArray chunk = chunk(id);
+        if (chunk == null)
+            chunk = allocate(id);
+        long mask = mask(id);
+        chunk.getAndAccumulate(word(id), mask, (word, bit) -> word | bit);
+    }
+
+    void remove(long id) {
+        AtomicLongArray chunk = chunk(id);
+        if (chunk != null)
+            chunk.getAndAccumulate(word(id), ~mask(id), (word, bits) -> word & bits);
+    }
+
+    private AtomicLongArray chunk(long id) {
+        AtomicLongArray[] current = chunks;
+        long index = id >>> CHUNK_SHIFT;
+        return id < 0 || index >= current.length ? null : current[(int) index];
+    }
+
+    private synchronized AtomicLongArray allocate(long id) {
+        int index = (int) (id >>> CHUNK_SHIFT);
+        AtomicLongArray[] current = chunks;
+        if (index >= current.length)
+            current = Arrays.copyOf(current, Math.max(index + 1, current.length * 2));
+        if (current[index] == null)
+            current[index] = new AtomicLongArray(WORDS_PER_CHUNK);
+        chunks = current;
+        return current[index];
+    }
+
+    private static int word(long id) {
+        return (int) ((id & ((1 << CHUNK_SHIFT) - 1)) >>> 6);
+    }
+
+    private static long mask(long id) {
+        return 1L << (id & 63);
+    }
+}
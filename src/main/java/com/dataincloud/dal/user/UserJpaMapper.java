@@ -0,0 +1,20 @@
+package com.dataincloud.dal.user;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.user.User;
+import com.dataincloud.dal.post.PostJpa;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper
+public interface UserJpaMapper {
+    @Mapping(target = "posts", ignore = true)
+    UserJpa toJpa(User user);
+
+    @Mapping(target = "postCount", ignore = true)
+    @Mapping(target = "recentPosts", ignore = true)
+    User toDomain(UserJpa userJpa);
+
+    @Mapping(target = "user", ignore = true)
+    Post toPostWithoutUser(PostJpa postJpa);
+}
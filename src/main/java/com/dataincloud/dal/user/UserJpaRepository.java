@@ -1,12 +1,23 @@
 package com.dataincloud.dal.user;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserJpaRepository extends JpaRepository<UserJpa, Long> {
-    @Query("SELECT u FROM UserJpa u LEFT JOIN FETCH u.posts WHERE u.id = :id")
-    Optional<UserJpa> findByIdFetch(@Param("id") Long id);
+    @Query(value = "SELECT EXISTS(SELECT 1 FROM users WHERE id = :id)", nativeQuery = true)
+    boolean existsByIdSelectOne(@Param("id") Long id);
+
+    @Query(value = "SELECT post_count FROM users WHERE id = :id", nativeQuery = true)
+    long findPostCountById(@Param("id") Long id);
+
+    List<UserJpa> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<UserJpa> findByUsernameStartingWithOrderByUsernameAscIdAsc(String prefix, Limit limit);
+
+    Optional<UserJpa> findFirstByUsernameOrderByIdAsc(String username);
 }
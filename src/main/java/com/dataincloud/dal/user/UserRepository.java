@@ -1,57 +1,227 @@
 package com.dataincloud.dal.user;
 
+import com.dataincloud.core.post.Post;
 import com.dataincloud.core.user.IUserRepository;
 import com.dataincloud.core.user.User;
 import com.dataincloud.core.exceptions.ResourceNotFoundException;
-import jakarta.transaction.Transactional;
+import com.dataincloud.dal.BulkCopy;
+import com.dataincloud.dal.PooledIds;
+import com.dataincloud.dal.post.PostJpaRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Date;
+import java.util.Calendar;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 @Repository
-@Transactional
 @RequiredArgsConstructor
 public class UserRepository implements IUserRepository {
+    private static final List<String> COPY_COLUMNS = List.of("id", "username", "birth_date");
+    private static final int RECENT_POSTS = 10;
+    private static final String MAX_ID_QUERY = "SELECT COALESCE(MAX(id), 0) FROM users";
+    private static final String USERS_AFTER_QUERY = "SELECT id, username, birth_date FROM users WHERE id > ?";
+
     private final UserJpaRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final PostJpaRepository postRepository;
+    private final UserJpaMapper userMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<UsernameTrie> usernameTrie;
+    private final UserIdBitmap knownIds = new UserIdBitmap();
+    private final AtomicLong committedDeletes = new AtomicLong();
 
     @Override
+    @Transactional
     public User create(User newUser) {
-        return modelMapper.map(
-            userRepository.save(modelMapper.map(newUser, UserJpa.class)), User.class
+        User createdUser = userMapper.toDomain(
+            userRepository.save(userMapper.toJpa(newUser))
         );
+        createdUser.setRecentPosts(List.of());
+        afterCommit(() -> {
+            knownIds.add(createdUser.getId());
+            usernameTrie.ifAvailable(trie -> trie.put(createdUser));
+        });
+        return createdUser;
+    }
+
+    @Override
+    @Transactional
+    public List<User> createAll(List<User> newUsers) {
+        List<User> createdUsers = userRepository.saveAll(newUsers.stream().map(userMapper::toJpa).toList()).stream()
+                .map(userMapper::toDomain)
+                .toList();
+        createdUsers.forEach(user -> user.setRecentPosts(List.of()));
+        afterCommit(() -> {
+            createdUsers.forEach(user -> knownIds.add(user.getId()));
+            usernameTrie.ifAvailable(trie -> createdUsers.forEach(trie::put));
+        });
+        return createdUsers;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> readAll() {
         return userRepository.findAll().stream()
-                .peek(userJpa -> userJpa.setPosts(null))
-                .map(userJpa -> modelMapper.map(userJpa, User.class))
+                .map(userMapper::toDomain)
                 .toList();
     }
 
     @Override
-    public User readById(Long id) {
-        return modelMapper.map(
-                userRepository.findByIdFetch(id).orElseThrow(() -> new ResourceNotFoundException("User not found")), User.class
+    @Transactional(readOnly = true)
+    public List<User> readPage(Long after, int limit) {
+        return userRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, Limit.of(limit)).stream()
+                .map(userMapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * The copied rows take their ids from fresh blocks of {@code users_id_seq} through {@link PooledIds}, rather than
+     * from the column default that would spend a block per row. Fresh blocks lie above every id assigned so far, so the
+     * username trie is caught up by reading back only the rows above the previous maximum id.
+     */
+    @Override
+    @Transactional
+    public long copyFrom(Stream<User> users) {
+        UsernameTrie trie = usernameTrie.getIfAvailable();
+        long previousMaxId = trie == null ? 0L : jdbcTemplate.queryForObject(MAX_ID_QUERY, Long.class);
+        long copied = BulkCopy.copyWithIds(jdbcTemplate, "users", COPY_COLUMNS, users,
+                new PooledIds(jdbcTemplate, "users_id_seq"),
+                (id, user) -> new Object[]{id, user.getUsername(), BulkCopy.toLocalDate(user.getBirthDate())});
+        if (trie != null && copied > 0)
+            afterCommit(() -> jdbcTemplate.query(USERS_AFTER_QUERY, (RowCallbackHandler) resultSet -> {
+                User user = new User();
+                user.setId(resultSet.getLong("id"));
+                user.setUsername(resultSet.getString("username"));
+                Date birthDate = resultSet.getDate("birth_date");
+                if (birthDate != null) {
+                    Calendar calendar = Calendar.getInstance();
+                    calendar.setTime(birthDate);
+                    user.setBirthDate(calendar);
+                }
+                trie.put(user);
+            }, previousMaxId));
+        return copied;
+    }
+
+    /**
+     * Not transactional: a bitmap hit answers without a transaction or a connection, a miss runs the Spring Data
+     * query in its own read-only transaction. A miss is not remembered when a delete committed while it was queried.
+     */
+    @Override
+    public boolean exists(Long id) {
+        if (knownIds.contains(id))
+            return true;
+        long deletes = committedDeletes.get();
+        if (!userRepository.existsByIdSelectOne(id))
+            return false;
+        knownIds.add(id);
+        if (committedDeletes.get() != deletes)
+            knownIds.remove(id);
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Post> readPosts(Long userId, Long before, int limit) {
+        return postRepository.findUserPage(userId, before == null ? Long.MAX_VALUE : before, Limit.of(limit)).stream()
+                .map(userMapper::toPostWithoutUser)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> readByUsernamePrefix(String prefix, int limit) {
+        UsernameTrie trie = usernameTrie.getIfAvailable();
+        if (trie != null)
+            return trie.findByPrefix(prefix, limit);
+
+        return userRepository.findByUsernameStartingWithOrderByUsernameAscIdAsc(prefix, Limit.of(limit)).stream()
+                .map(userMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public User readByUsername(String username) {
+        UsernameTrie trie = usernameTrie.getIfAvailable();
+        if (trie != null)
+            return trie.findExact(username).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return userMapper.toDomain(
+                userRepository.findFirstByUsernameOrderByIdAsc(username)
+                        .orElseThrow(() -> new ResourceNotFoundException("User not found"))
         );
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public User readById(Long id) {
+        return withPosts(userMapper.toDomain(
+                userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User not found"))
+        ));
+    }
+
+    @Override
+    @Transactional
     public User update(User editedUser) {
-        return modelMapper.map(
-                userRepository.save(modelMapper.map(editedUser, UserJpa.class)), User.class
+        User updatedUser = userMapper.toDomain(
+                userRepository.save(userMapper.toJpa(editedUser))
         );
+        afterCommit(() -> usernameTrie.ifAvailable(trie -> trie.put(updatedUser)));
+        return withPosts(updatedUser);
     }
 
     @Override
+    @Transactional
     public User delete(Long id) {
-        User deletedUser = modelMapper.map(
-                userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User not found")), User.class
+        User deletedUser = userMapper.toDomain(
+                userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User not found"))
         );
         userRepository.deleteById(id);
+        knownIds.remove(id);
+        afterCommit(() -> {
+            committedDeletes.incrementAndGet();
+            knownIds.remove(id);
+            usernameTrie.ifAvailable(trie -> trie.remove(id));
+        });
         return deletedUser;
     }
+
+    /**
+     * Defers updates of the in-process indexes until the transaction commits, so a rolled back insert leaves no
+     * phantom id behind; ids reach the database only when the session flushes, possibly at commit.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Attaches the post count, kept on the user row by triggers on posts, and the newest posts, answered from the
+     * (user_id, id) index, so the cost of a user lookup does not depend on how many posts the user has.
+     */
+    private User withPosts(User user) {
+        user.setPostCount(userRepository.findPostCountById(user.getId()));
+        user.setRecentPosts(readPosts(user.getId(), null, RECENT_POSTS));
+        return user;
+    }
 }
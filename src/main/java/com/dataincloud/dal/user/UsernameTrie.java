@@ -0,0 +1,204 @@
+package com.dataincloud.dal.user;
+
+import com.dataincloud.core.user.User;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Radix tree over usernames for autocomplete. Edges carry whole substrings, so a chain of single-child nodes is stored
+ * as one node; children are ordered by their first character and users at a node by id, which makes a depth-first
+ * walk yield matches in username order. Holds id, username and birth date only.
+ */
+public class UsernameTrie {
+    private final Node root = new Node("");
+    private final Map<Long, String> usernames = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(User user) {
+        if (user.getId() == null || user.getUsername() == null)
+            return;
+        User entry = new User();
+        entry.setId(user.getId());
+        entry.setUsername(user.getUsername());
+        entry.setBirthDate(user.getBirthDate());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(user.getId());
+            insert(user.getUsername()).users.put(user.getId(), entry);
+            usernames.put(user.getId(), user.getUsername());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Stream<User> users) {
+        UsernameTrie rebuilt = new UsernameTrie();
+        users.forEach(rebuilt::put);
+
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            root.children.putAll(rebuilt.root.children);
+            root.users.clear();
+            root.users.putAll(rebuilt.root.users);
+            usernames.clear();
+            usernames.putAll(rebuilt.usernames);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<User> findByPrefix(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = find(prefix, false);
+            List<User> found = new ArrayList<>(Math.min(limit, 16));
+            if (node != null)
+                collect(node, found, limit);
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<User> findExact(String username) {
+        lock.readLock().lock();
+        try {
+            Node node = find(username, true);
+            return node == null ? List.of() : List.copyOf(node.users.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node insert(String key) {
+        Node current = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = current.children.get(key.charAt(i));
+            if (child == null) {
+                Node leaf = new Node(key.substring(i));
+                current.children.put(key.charAt(i), leaf);
+                return leaf;
+            }
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children.put(child.label.charAt(0), child);
+                current.children.put(key.charAt(i), split);
+                child = split;
+            }
+            i += common;
+            current = child;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the node whose subtree holds every key starting with {@code key}; with {@code exact}, only a node whose
+     * path spells exactly {@code key}.
+     */
+    private Node find(String key, boolean exact) {
+        Node current = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = current.children.get(key.charAt(i));
+            if (child == null)
+                return null;
+            int common = commonPrefixLength(child.label, key, i);
+            if (i + common == key.length())
+                return !exact || common == child.label.length() ? child : null;
+            if (common < child.label.length())
+                return null;
+            i += common;
+            current = child;
+        }
+        return current;
+    }
+
+    private void removeLocked(Long id) {
+        String username = usernames.remove(id);
+        if (username == null)
+            return;
+
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node current = root;
+        int i = 0;
+        while (i < username.length()) {
+            current = current.children.get(username.charAt(i));
+            path.add(current);
+            i += current.label.length();
+        }
+        current.users.remove(id);
+        compact(path);
+    }
+
+    private void compact(List<Node> path) {
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node node = path.get(depth);
+            Node parent = path.get(depth - 1);
+            if (!node.users.isEmpty())
+                return;
+            if (node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+            } else if (node.children.size() == 1) {
+                Node child = node.children.firstEntry().getValue();
+                child.label = node.label + child.label;
+                parent.children.put(child.label.charAt(0), child);
+                return;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void collect(Node node, List<User> found, int limit) {
+        for (User user : node.users.values()) {
+            if (found.size() >= limit)
+                return;
+            found.add(user);
+        }
+        for (Node child : node.children.values()) {
+            if (found.size() >= limit)
+                return;
+            collect(child, found, limit);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length))
+            length++;
+        return length;
+    }
+
+    private static final class Node {
+        private String label;
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final TreeMap<Long, User> users = new TreeMap<>();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.dataincloud.services.bulk;
+
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.services.bulk.dto.ImportReportDto;
+import com.dataincloud.services.post.PostMapper;
+import com.dataincloud.services.post.dto.PostImportDto;
+import com.dataincloud.services.user.UserMapper;
+import com.dataincloud.services.user.dto.UserCreateDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parses CSV (with a header row of dto property names) record by record or NDJSON line by line, validates every row against the
+ * dto constraints and streams the valid ones into the repositories' bulk copy. Rejected rows end up in the report.
+ */
+@RequiredArgsConstructor
+public class BulkImportService {
+    private final IUserRepository userRepository;
+    private final IPostRepository postRepository;
+    private final IPostSearch postSearch;
+    private final UserMapper userMapper;
+    private final PostMapper postMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    public ImportReportDto importUsers(InputStream input, ImportFormat format) {
+        ImportReportDto report = new ImportReportDto();
+        report.setImported(userRepository.copyFrom(
+                rows(input, format, UserCreateDto.class, report).map(userMapper::toDomain)
+        ));
+        return report;
+    }
+
+    public ImportReportDto importPosts(InputStream input, ImportFormat format) {
+        ImportReportDto report = new ImportReportDto();
+        report.setImported(postRepository.copyFrom(
+                rows(input, format, PostImportDto.class, report).map(postMapper::toDomain)
+        ));
+        if (report.getImported() > 0)
+            postSearch.rebuild();
+        return report;
+    }
+
+    private <T> Stream<T> rows(InputStream input, ImportFormat format, Class<T> type, ImportReportDto report) {
+        Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        return (format == ImportFormat.CSV ? csvRows(reader) : ndjsonRows(reader))
+                .map(row -> parseRow(row, type, report))
+                .filter(Objects::nonNull);
+    }
+
+    private <T> T parseRow(SourceRow row, Class<T> type, ImportReportDto report) {
+        if (row.line() != null && row.line().isBlank())
+            return null;
+
+        T value;
+        try {
+            if (row.malformed())
+                throw new IllegalArgumentException("Malformed row");
+            value = row.record() != null
+                    ? objectMapper.convertValue(row.record(), type)
+                    : objectMapper.readValue(row.line(), type);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            report.reject(row.number(), Map.of("row", "Malformed row"));
+            return null;
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            Map<String, String> errors = new HashMap<>();
+            violations.forEach(violation ->
+                    errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            report.reject(row.number(), errors);
+            return null;
+        }
+        return value;
+    }
+
+    private static Stream<SourceRow> ndjsonRows(Reader reader) {
+        AtomicLong lineNumber = new AtomicLong();
+        return new BufferedReader(reader).lines()
+                .map(line -> new SourceRow(lineNumber.incrementAndGet(), null, line, false));
+    }
+
+    /**
+     * Reads RFC 4180 records, so quoted values may hold commas, quotes and line breaks. Rows are numbered by record
+     * with the header as row 1, which matches the line number unless a value spans lines. A record with the wrong
+     * number of columns or broken quoting is reported and skipped, and reading resumes at the next record.
+     */
+    private static Stream<SourceRow> csvRows(Reader reader) {
+        CsvRecordReader records = new CsvRecordReader(reader);
+        List<String> header;
+        try {
+            CsvRecordReader.CsvRecord headerRecord = records.next();
+            if (headerRecord == null)
+                return Stream.empty();
+            header = headerRecord.fields().stream().map(String::trim).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Iterator<SourceRow> rows = new Iterator<>() {
+            private long rowNumber = 1;
+            private CsvRecordReader.CsvRecord next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = records.next();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public SourceRow next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                CsvRecordReader.CsvRecord record = next;
+                next = null;
+                rowNumber++;
+                if (record.malformed() || record.fields().size() != header.size())
+                    return new SourceRow(rowNumber, null, null, true);
+                return new SourceRow(rowNumber, toRecord(header, record.fields()), null, false);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false);
+    }
+
+    private static Map<String, String> toRecord(List<String> header, List<String> values) {
+        Map<String, String> record = new HashMap<>();
+        for (int i = 0; i < header.size(); i++)
+            record.put(header.get(i), values.get(i).isEmpty() ? null : values.get(i));
+        return record;
+    }
+
+    /**
+     * A CSV record or an NDJSON line.
+     */
+    private record SourceRow(long number, Map<String, String> record, String line, boolean malformed) {
+    }
+}
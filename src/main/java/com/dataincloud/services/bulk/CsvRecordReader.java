@@ -0,0 +1,86 @@
+package com.dataincloud.services.bulk;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records one at a time. A malformed record is returned flagged and reading goes on with the next one;
+ * only an unterminated quote runs to the end of the input.
+ */
+class CsvRecordReader {
+    private final PushbackReader reader;
+
+    record CsvRecord(List<String> fields, boolean malformed) {
+    }
+
+    CsvRecordReader(Reader reader) {
+        this.reader = new PushbackReader(reader);
+    }
+
+    /**
+     * Returns the next non-empty record, or null at the end of the input.
+     */
+    CsvRecord next() throws IOException {
+        CsvRecord record;
+        do {
+            record = read();
+        } while (record != null && record.fields().size() == 1 && record.fields().get(0).isEmpty());
+        return record;
+    }
+
+    private CsvRecord read() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean closed = false;
+        boolean malformed = false;
+        boolean empty = true;
+
+        while (true) {
+            int c = reader.read();
+            if (c == -1) {
+                if (empty)
+                    return null;
+                fields.add(field.toString());
+                return new CsvRecord(fields, malformed || quoted);
+            }
+            empty = false;
+
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                } else if (peek() == '"') {
+                    reader.read();
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    closed = true;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                closed = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n')
+                    reader.read();
+                fields.add(field.toString());
+                return new CsvRecord(fields, malformed);
+            } else if (c == '"' && field.isEmpty() && !closed) {
+                quoted = true;
+            } else {
+                malformed |= closed || c == '"';
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        int c = reader.read();
+        if (c != -1)
+            reader.unread(c);
+        return c;
+    }
+}
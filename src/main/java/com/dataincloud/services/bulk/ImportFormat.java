@@ -0,0 +1,20 @@
+package com.dataincloud.services.bulk;
+
+public enum ImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static ImportFormat fromMediaType(String mediaType) {
+        for (ImportFormat format : values()) {
+            if (mediaType != null && mediaType.toLowerCase().startsWith(format.mediaType))
+                return format;
+        }
+        throw new IllegalArgumentException("Unsupported import format: " + mediaType);
+    }
+}
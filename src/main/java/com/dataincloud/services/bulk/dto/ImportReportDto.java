@@ -0,0 +1,23 @@
+package com.dataincloud.services.bulk.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Getter @Setter
+public class ImportReportDto {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long imported;
+    private long rejected;
+    private List<RowErrorDto> errors = new ArrayList<>();
+
+    public void reject(long line, Map<String, String> rowErrors) {
+        rejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS)
+            errors.add(new RowErrorDto(line, rowErrors));
+    }
+}
@@ -0,0 +1,16 @@
+package com.dataincloud.services.bulk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RowErrorDto {
+    private long line;
+    private Map<String, String> errors;
+}
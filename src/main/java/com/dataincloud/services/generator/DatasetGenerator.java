@@ -0,0 +1,224 @@
+package com.dataincloud.services.generator;
+
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.profile.IPhotoStore;
+import com.dataincloud.core.profile.IProfileRepository;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.core.user.User;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.distribution.ContinuousSampler;
+import org.apache.commons.rng.sampling.distribution.DiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.ZigguratSampler;
+import org.apache.commons.rng.sampling.distribution.ZipfSampler;
+import org.apache.commons.rng.simple.RandomSource;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Writes a synthetic dataset through the repositories' bulk paths; the same spec always yields the same rows. Posts
+ * draw their author from a Zipf distribution over the generated users, so a few users write most of the posts, and
+ * their words from a Zipf-ranked vocabulary, which gives the full-text index a natural term skew. Each stage has its
+ * own random stream, so changing one ratio does not reshuffle the other stages.
+ */
+@RequiredArgsConstructor
+public class DatasetGenerator {
+    private static final int PAGE_SIZE = 10_000;
+    private static final int HEADER_LIMIT = 64;
+    private static final long SECONDS_OF_HISTORY = 3L * 365 * 24 * 3600;
+    private static final long FIRST_BIRTH_DAY = LocalDate.of(1950, 1, 1).toEpochDay();
+    private static final long BIRTH_DAYS = LocalDate.of(2010, 12, 31).toEpochDay() - FIRST_BIRTH_DAY;
+    private static final double PHOTO_SIZE_SIGMA = 0.8;
+    private static final double[] TAG_PROBABILITIES = {0.35, 0.5, 0.25};
+
+    private static final String[] WORDS = {
+            "the", "day", "time", "new", "life", "good", "world", "people", "first", "city", "photo", "love",
+            "trip", "work", "home", "music", "food", "friends", "weekend", "project", "coffee", "summer", "winter",
+            "book", "game", "team", "movie", "morning", "night", "school", "study", "travel", "market", "shop",
+            "sale", "garden", "river", "mountain", "sea", "beach", "road", "train", "station", "story", "idea",
+            "design", "code", "cloud", "data", "release", "update", "review", "recipe", "dinner", "breakfast",
+            "concert", "festival", "museum", "art", "street", "park", "run", "bike", "football", "match", "goal",
+            "exam", "course", "lecture", "notes", "blog", "post", "question", "answer", "news", "weather", "rain",
+            "snow", "sun", "dog", "cat", "family", "birthday", "party", "gift", "holiday", "plan", "list",
+            "tips", "guide", "startup", "meeting", "office", "deadline", "sprint", "bug", "feature", "launch"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Olena", "Maksym", "Anna", "Dmytro", "Iryna", "Andrii", "Sofia", "Oleh", "Kateryna", "Taras", "Maria",
+            "Ivan", "Yulia", "Serhii", "Nadia", "Petro", "Daria", "Bohdan", "Alina", "Roman"
+    };
+    private static final String[] LAST_NAMES = {
+            "Shevchenko", "Kovalenko", "Bondarenko", "Tkachenko", "Kravchenko", "Oliinyk", "Shevchuk", "Polishchuk",
+            "Koval", "Boiko", "Melnyk", "Moroz", "Lysenko", "Marchenko", "Rudenko", "Savchenko", "Petrenko",
+            "Klymenko", "Pavlenko", "Levchenko"
+    };
+
+    private final IUserRepository userRepository;
+    private final IPostRepository postRepository;
+    private final IProfileRepository profileRepository;
+    private final IPostSearch postSearch;
+    private final IPhotoStore photoStore;
+
+    public DatasetReport generate(DatasetSpec spec) {
+        String prefix = "gen" + Long.toString(spec.seed(), 36) + "_";
+        long users = userRepository.copyFrom(IntStream.range(0, spec.users())
+                .mapToObj(index -> user(spec, prefix, index)));
+        LongArrayList userIds = generatedUserIds(prefix, spec.users());
+
+        long posts = postRepository.copyFrom(posts(spec, userIds));
+        if (posts > 0)
+            postSearch.rebuild();
+
+        long[] profilesAndPhotos = profiles(spec, userIds);
+        return new DatasetReport(users, posts, profilesAndPhotos[0], profilesAndPhotos[1]);
+    }
+
+    private static User user(DatasetSpec spec, String prefix, int index) {
+        User user = new User();
+        user.setUsername(prefix + index);
+        user.setBirthDate(GregorianCalendar.from(birthDate(spec, index).atStartOfDay(ZoneOffset.UTC)));
+        return user;
+    }
+
+    /**
+     * Bulk copies do not return ids, so they are read back: copies insert in order, paging from the first generated
+     * user and keeping those with the run's prefix skips anything inserted concurrently.
+     */
+    private LongArrayList generatedUserIds(String prefix, int count) {
+        LongArrayList ids = new LongArrayList(count);
+        if (count == 0)
+            return ids;
+        long after = userRepository.readByUsername(prefix + 0).getId() - 1;
+        List<User> page;
+        do {
+            page = userRepository.readPage(after, PAGE_SIZE);
+            for (User user : page)
+                if (user.getUsername().startsWith(prefix) && ids.size() < count)
+                    ids.add(user.getId().longValue());
+            if (!page.isEmpty())
+                after = page.get(page.size() - 1).getId();
+        } while (page.size() == PAGE_SIZE && ids.size() < count);
+        return ids;
+    }
+
+    private static Stream<Post> posts(DatasetSpec spec, LongArrayList userIds) {
+        if (userIds.isEmpty())
+            return Stream.empty();
+        UniformRandomProvider random = random(spec, 1);
+        DiscreteSampler authors = ZipfSampler.of(random, userIds.size(), spec.zipfExponent());
+        DiscreteSampler words = ZipfSampler.of(random, WORDS.length, 1.0);
+        long epoch = spec.epoch().getEpochSecond();
+        long total = Math.round(spec.users() * spec.postsPerUser());
+
+        return Stream.generate(() -> {
+            Post post = new Post();
+            post.setHeader(header(words, 3 + random.nextInt(6)));
+            post.setDescription(text(words, 10 + random.nextInt(50)));
+            Calendar createdDate = Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC));
+            createdDate.setTimeInMillis((epoch - random.nextLong(SECONDS_OF_HISTORY)) * 1000);
+            post.setCreatedDate(createdDate);
+            User author = new User();
+            author.setId(userIds.getLong(scatter(authors.sample() - 1, userIds.size())));
+            post.setUser(author);
+            return post;
+        }).limit(total);
+    }
+
+    private long[] profiles(DatasetSpec spec, LongArrayList userIds) {
+        UniformRandomProvider random = random(spec, 2);
+        ContinuousSampler gaussian = ZigguratSampler.NormalizedGaussian.of(random);
+        long profiles = 0;
+        long photos = 0;
+        List<Profile> batch = new ArrayList<>(spec.batchSize());
+        for (int index = 0; index < userIds.size(); index++) {
+            if (random.nextDouble() >= spec.profileRatio())
+                continue;
+            Profile profile = new Profile();
+            profile.setUserId(userIds.getLong(index));
+            profile.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+            profile.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            profile.setBirthDate(birthDate(spec, index));
+            profile.setTags(tags(random));
+            if (random.nextDouble() < spec.photoRatio()) {
+                long size = Math.min(spec.photoMaxSize(),
+                        Math.round(spec.photoMedianSize() * Math.exp(PHOTO_SIZE_SIGMA * gaussian.sample())));
+                byte[] photo = new byte[(int) Math.max(1, size)];
+                random.nextBytes(photo);
+                profile.setPhotoId(photoStore.save(new ByteArrayInputStream(photo)));
+                photos++;
+            }
+            batch.add(profile);
+            if (batch.size() == spec.batchSize()) {
+                profiles += profileRepository.createAll(batch).size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty())
+            profiles += profileRepository.createAll(batch).size();
+        return new long[]{profiles, photos};
+    }
+
+    private static List<Profile.ProfileTags> tags(UniformRandomProvider random) {
+        Profile.ProfileTags[] all = Profile.ProfileTags.values();
+        List<Profile.ProfileTags> tags = new ArrayList<>(all.length);
+        for (Profile.ProfileTags tag : all)
+            if (random.nextDouble() < TAG_PROBABILITIES[tag.ordinal() % TAG_PROBABILITIES.length])
+                tags.add(tag);
+        if (tags.isEmpty())
+            tags.add(all[random.nextInt(all.length)]);
+        return tags;
+    }
+
+    private static String header(DiscreteSampler words, int count) {
+        String header = text(words, count);
+        header = Character.toUpperCase(header.charAt(0)) + header.substring(1);
+        return header.length() > HEADER_LIMIT ? header.substring(0, HEADER_LIMIT).trim() : header;
+    }
+
+    private static String text(DiscreteSampler words, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0)
+                text.append(' ');
+            text.append(WORDS[words.sample() - 1]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * The same birth date for a user and the user's profile, without keeping one per user.
+     */
+    private static LocalDate birthDate(DatasetSpec spec, int index) {
+        long mixed = mix(spec.seed() ^ mix(index));
+        return LocalDate.ofEpochDay(FIRST_BIRTH_DAY + Math.floorMod(mixed, BIRTH_DAYS + 1));
+    }
+
+    /**
+     * Spreads Zipf ranks over the users with a bijection, so the heaviest writers are not simply the oldest accounts.
+     */
+    private static int scatter(int rank, int size) {
+        return (int) ((rank * (long) Integer.MAX_VALUE) % size);
+    }
+
+    private static UniformRandomProvider random(DatasetSpec spec, long stage) {
+        return RandomSource.XO_RO_SHI_RO_128_PP.create(new long[]{spec.seed(), stage});
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,4 @@
+package com.dataincloud.services.generator;
+
+public record DatasetReport(long users, long posts, long profiles, long photos) {
+}
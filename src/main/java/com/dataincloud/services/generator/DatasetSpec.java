@@ -0,0 +1,13 @@
+package com.dataincloud.services.generator;
+
+import java.time.Instant;
+
+/**
+ * What {@link DatasetGenerator} produces: {@code users} users writing {@code postsPerUser} posts on average over the
+ * three years before {@code epoch}, with authors drawn from a Zipf distribution of the given exponent; a {@code profileRatio} share of users get a profile,
+ * a {@code photoRatio} share of those a photo of log-normal size around {@code photoMedianSize} bytes, capped at
+ * {@code photoMaxSize}.
+ */
+public record DatasetSpec(long seed, Instant epoch, int users, double postsPerUser, double zipfExponent, double profileRatio,
+                          double photoRatio, long photoMedianSize, long photoMaxSize, int batchSize) {
+}
@@ -0,0 +1,76 @@
+package com.dataincloud.services.page;
+
+import com.dataincloud.core.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination helpers. A cursor is an opaque token wrapping the id of the last item of the previous page,
+ * repositories are asked for one row more than the page size to know whether a next page exists. Ranked listings
+ * (search) wrap the rank and the id of the last item instead.
+ */
+public final class Pages {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private Pages() {
+    }
+
+    public static int boundSize(Integer size) {
+        if (size == null)
+            return DEFAULT_SIZE;
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid page cursor", e);
+        }
+    }
+
+    public static String encodeCursor(Long id) {
+        return encode(id.toString());
+    }
+
+    public static RankCursor decodeRankCursor(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return RankCursor.FIRST;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split(":", 2);
+            if (parts.length != 2)
+                throw new InvalidCursorException("Invalid page cursor");
+            return new RankCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid page cursor", e);
+        }
+    }
+
+    public static String encodeRankCursor(float rank, long id) {
+        return encode(rank + ":" + id);
+    }
+
+    public static <T, R> PageDto<R> of(List<T> fetched, int size, Function<T, Long> idOf, Function<T, R> mapper) {
+        return withCursor(fetched, size, item -> encodeCursor(idOf.apply(item)), mapper);
+    }
+
+    public static <T, R> PageDto<R> withCursor(List<T> fetched, int size, Function<T, String> cursorOf,
+                                               Function<T, R> mapper) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? fetched.subList(0, size) : fetched;
+        String next = hasNext ? cursorOf.apply(items.get(size - 1)) : null;
+
+        return new PageDto<>(items.stream().map(mapper).toList(), next);
+    }
+
+    private static String encode(String payload) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,13 @@
+package com.dataincloud.services.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RankCursor {
+    public static final RankCursor FIRST = new RankCursor(Float.POSITIVE_INFINITY, 0L);
+
+    private final float rank;
+    private final long id;
+}
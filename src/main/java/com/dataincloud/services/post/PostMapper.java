@@ -0,0 +1,35 @@
+package com.dataincloud.services.post;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.user.User;
+import com.dataincloud.services.post.dto.BasicPostDto;
+import com.dataincloud.services.post.dto.PostCreateDto;
+import com.dataincloud.services.post.dto.PostDto;
+import com.dataincloud.services.post.dto.PostImportDto;
+import com.dataincloud.services.user.dto.BasicUserDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper
+public interface PostMapper {
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    Post toDomain(PostCreateDto postCreateDto);
+
+    Post toDomain(PostDto postDto);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "user.id", source = "userId")
+    Post toDomain(PostImportDto postImportDto);
+
+    PostDto toDto(Post post);
+
+    BasicPostDto toBasicDto(Post post);
+
+    @Mapping(target = "postCount", ignore = true)
+    @Mapping(target = "recentPosts", ignore = true)
+    User toUser(BasicUserDto basicUserDto);
+
+    BasicUserDto toBasicUserDto(User user);
+}
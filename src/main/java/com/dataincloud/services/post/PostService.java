@@ -1,47 +1,109 @@
 package com.dataincloud.services.post;
 
 import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.IPostSearch;
 import com.dataincloud.core.post.Post;
+import com.dataincloud.core.post.RankedPost;
 import com.dataincloud.services.post.dto.BasicPostDto;
 import com.dataincloud.services.post.dto.PostCreateDto;
 import com.dataincloud.services.post.dto.PostDto;
+import com.dataincloud.services.page.PageDto;
+import com.dataincloud.services.page.Pages;
+import com.dataincloud.services.page.RankCursor;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 public class PostService {
     private final IPostRepository postRepository;
-    private final ModelMapper modelMapper;
+    private final PostMapper postMapper;
+    private final IPostSearch postSearch;
+    private final PostStream postStream;
 
     public PostDto create(PostCreateDto newPost) {
-        return modelMapper.map(
-                postRepository.create(modelMapper.map(newPost, Post.class)), PostDto.class
-        );
+        Post createdPost = postRepository.create(postMapper.toDomain(newPost));
+        postSearch.index(createdPost);
+        PostDto createdPostDto = postMapper.toDto(createdPost);
+        postStream.publish(createdPostDto);
+        return createdPostDto;
+    }
+
+    public List<PostDto> createAll(List<PostCreateDto> newPosts) {
+        List<Post> createdPosts = postRepository.createAll(newPosts.stream().map(postMapper::toDomain).toList());
+        createdPosts.forEach(postSearch::index);
+        List<PostDto> createdPostDtos = createdPosts.stream()
+                .map(postMapper::toDto)
+                .toList();
+        postStream.publishAll(createdPostDtos);
+        return createdPostDtos;
     }
 
     public List<BasicPostDto> getAll() {
         return postRepository.readAll().stream()
-                .map(post -> modelMapper.map(post, BasicPostDto.class))
+                .map(postMapper::toBasicDto)
                 .toList();
     }
 
+    public PageDto<BasicPostDto> getPage(String cursor, Integer size) {
+        int pageSize = Pages.boundSize(size);
+        return Pages.of(
+                postRepository.readPage(Pages.decodeCursor(cursor), pageSize + 1),
+                pageSize, Post::getId, postMapper::toBasicDto
+        );
+    }
+
+    public PageDto<BasicPostDto> search(String query, String cursor, Integer size) {
+        int pageSize = Pages.boundSize(size);
+        if (query == null || query.isBlank())
+            return new PageDto<>(List.of(), null);
+
+        RankCursor after = Pages.decodeRankCursor(cursor);
+        return Pages.withCursor(
+                postSearch.search(query, after.getRank(), after.getId(), pageSize + 1),
+                pageSize, hit -> Pages.encodeRankCursor(hit.getRank(), hit.getPost().getId()),
+                hit -> postMapper.toBasicDto(hit.getPost())
+        );
+    }
+
+    public void exportAll(Consumer<PostDto> consumer) {
+        postRepository.streamAll(post -> consumer.accept(postMapper.toDto(post)));
+    }
+
     public PostDto getById(Long id) {
-        return modelMapper.map(
-                postRepository.readById(id), PostDto.class
+        return postMapper.toDto(
+                postRepository.readById(id)
         );
     }
 
     public PostDto update(PostDto editedPost) {
-        return modelMapper.map(
-                postRepository.update(modelMapper.map(editedPost, Post.class)), PostDto.class
-        );
+        Post updatedPost = postRepository.update(postMapper.toDomain(editedPost));
+        postSearch.index(updatedPost);
+        return postMapper.toDto(updatedPost);
+    }
+
+    public List<PostDto> updateAll(List<PostDto> editedPosts) {
+        List<Post> updatedPosts = postRepository.updateAll(editedPosts.stream().map(postMapper::toDomain).toList());
+        updatedPosts.forEach(postSearch::index);
+        return updatedPosts.stream()
+                .map(postMapper::toDto)
+                .toList();
+    }
+
+    public List<PostDto> deleteAllById(List<Long> ids) {
+        List<PostDto> deletedPosts = postRepository.deleteAllById(ids).stream()
+                .map(postMapper::toDto)
+                .toList();
+        ids.forEach(postSearch::remove);
+        return deletedPosts;
     }
 
     public PostDto deleteById(Long id) {
-        return modelMapper.map(
-                postRepository.delete(id), PostDto.class
+        PostDto deletedPost = postMapper.toDto(
+                postRepository.delete(id)
         );
+        postSearch.remove(id);
+        return deletedPost;
     }
-}
\ No newline at end of file
+}
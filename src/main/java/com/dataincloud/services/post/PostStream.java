@@ -0,0 +1,230 @@
+package com.dataincloud.services.post;
+
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.services.post.dto.PostDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Live feed of created posts, numbered by publication sequence, which is also the event id.
+ */
+public class PostStream {
+    private static final int REPLAY_PAGE_SIZE = 100;
+
+    private final IPostRepository postRepository;
+    private final PostMapper postMapper;
+    private final ObjectMapper objectMapper;
+    private final int maxReplay;
+    private final long heartbeatIntervalNanos;
+
+    private final AtomicReferenceArray<Event> ring;
+    private final int mask;
+    private final AtomicLongArray history;
+    private final int historyMask;
+    private final long firstSequence = System.currentTimeMillis() * 1000;
+    private final AtomicLong claimed = new AtomicLong(firstSequence);
+    private final AtomicLong published = new AtomicLong(firstSequence);
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public PostStream(IPostRepository postRepository, PostMapper postMapper, ObjectMapper objectMapper,
+                      int bufferSize, int historySize, int maxReplay, Duration heartbeatInterval) {
+        this.postRepository = postRepository;
+        this.postMapper = postMapper;
+        this.objectMapper = objectMapper;
+        this.maxReplay = maxReplay;
+        this.heartbeatIntervalNanos = heartbeatInterval.toNanos();
+        this.ring = new AtomicReferenceArray<>(powerOfTwo(bufferSize));
+        this.mask = ring.length() - 1;
+        this.history = new AtomicLongArray(powerOfTwo(Math.max(historySize, bufferSize)));
+        this.historyMask = history.length() - 1;
+    }
+
+    public interface Subscriber {
+        void send(long eventId, String post) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void close();
+    }
+
+    public final class Subscription {
+        private final Subscriber subscriber;
+        private volatile long cursor;
+        private volatile boolean cancelled;
+        private volatile Thread sender;
+        private int replayed;
+
+        private Subscription(Subscriber subscriber, long cursor) {
+            this.subscriber = subscriber;
+            this.cursor = cursor;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            LockSupport.unpark(sender);
+        }
+    }
+
+    private record Event(long sequence, String post) {
+    }
+
+    public void publish(PostDto post) {
+        String rendered = render(post);
+        long sequence = claimed.incrementAndGet();
+        history.set(historyIndex(sequence), post.getId());
+        ring.set(index(sequence), new Event(sequence, rendered));
+        while (published.get() != sequence - 1)
+            Thread.onSpinWait();
+        published.set(sequence);
+        LockSupport.unpark(dispatcher);
+    }
+
+    public void publishAll(List<PostDto> posts) {
+        posts.forEach(this::publish);
+    }
+
+    public Subscription subscribe(Long lastEventId, Subscriber subscriber) {
+        long head = published.get();
+        long cursor = head;
+        if (lastEventId != null && lastEventId < head)
+            cursor = Math.max(lastEventId, Math.max(firstSequence, head - history.length()));
+        Subscription subscription = new Subscription(subscriber, cursor);
+        subscriptions.add(subscription);
+        subscription.sender = Thread.ofVirtual()
+                .name("post-stream-subscriber")
+                .start(() -> deliver(subscription));
+        return subscription;
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    public void start() {
+        running = true;
+        dispatcher = Thread.ofPlatform()
+                .name("post-stream")
+                .daemon(true)
+                .start(this::run);
+    }
+
+    public void close() throws InterruptedException {
+        running = false;
+        if (dispatcher != null) {
+            LockSupport.unpark(dispatcher);
+            dispatcher.join();
+        }
+        for (Subscription subscription : subscriptions) {
+            if (subscriptions.remove(subscription))
+                subscription.subscriber.close();
+            LockSupport.unpark(subscription.sender);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.park(this);
+            for (Subscription subscription : subscriptions)
+                LockSupport.unpark(subscription.sender);
+        }
+    }
+
+    private void deliver(Subscription subscription) {
+        try {
+            long lastSent = System.nanoTime();
+            while (running && !subscription.cancelled) {
+                long head = published.get();
+                if (subscription.cursor < head) {
+                    if (!sendUpTo(subscription, head))
+                        break;
+                    lastSent = System.nanoTime();
+                } else if (System.nanoTime() - lastSent >= heartbeatIntervalNanos) {
+                    subscription.subscriber.heartbeat();
+                    lastSent = System.nanoTime();
+                } else {
+                    LockSupport.parkNanos(this, heartbeatIntervalNanos - (System.nanoTime() - lastSent));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // the client is gone, or the repository failed during a replay; the client reconnects either way
+        }
+        if (subscriptions.remove(subscription))
+            subscription.subscriber.close();
+    }
+
+    private boolean sendUpTo(Subscription subscription, long head) throws IOException {
+        long sequence = subscription.cursor + 1;
+        while (sequence <= head && !subscription.cancelled) {
+            Event event = ring.get(index(sequence));
+            if (event != null && event.sequence() == sequence) {
+                subscription.subscriber.send(sequence, event.post());
+                subscription.cursor = sequence++;
+            } else if (subscription.replayed < maxReplay
+                    && replay(subscription, sequence, Math.min(head, sequence + REPLAY_PAGE_SIZE - 1))) {
+                sequence = subscription.cursor + 1;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean replay(Subscription subscription, long from, long to) throws IOException {
+        List<Long> ids = new ArrayList<>((int) (to - from + 1));
+        for (long sequence = from; sequence <= to; sequence++)
+            ids.add(history.get(historyIndex(sequence)));
+        if (claimed.get() - from >= history.length())
+            return false;
+
+        Map<Long, Post> posts = postRepository.readAllById(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        for (long sequence = from; sequence <= to; sequence++) {
+            Post post = posts.get(ids.get((int) (sequence - from)));
+            if (post != null)
+                subscription.subscriber.send(sequence, render(postMapper.toDto(post)));
+            subscription.cursor = sequence;
+        }
+        subscription.replayed += ids.size();
+        return true;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    private int historyIndex(long sequence) {
+        return (int) (sequence & historyMask);
+    }
+
+    private static int powerOfTwo(int size) {
+        return Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+    }
+
+    private String render(PostDto post) {
+        try {
+            return objectMapper.writeValueAsString(post);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.dataincloud.services.post;
+
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.exceptions.WriteBufferFullException;
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.core.post.IPostWriteLog;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.services.post.dto.PostCreateDto;
+import com.dataincloud.services.post.dto.PostDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind path for new posts: accepted posts are logged, queued and stored in batches by a flusher thread.
+ */
+public class PostWriteBuffer {
+    private static final long MAX_BACKOFF_NANOS = Duration.ofSeconds(30).toNanos();
+
+    private final IPostRepository postRepository;
+    private final IPostSearch postSearch;
+    private final PostMapper postMapper;
+    private final IPostWriteLog writeLog;
+    private final PostStream postStream;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final Queue<Post> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final Queue<Long> reservedIds = new ConcurrentLinkedQueue<>();
+    private final Lock reserveLock = new ReentrantLock();
+    private final AtomicLong flushed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread flusher;
+    private List<Post> pending = List.of();
+    private long backoffNanos;
+
+    public PostWriteBuffer(IPostRepository postRepository, IPostSearch postSearch, PostMapper postMapper,
+                           IPostWriteLog writeLog, PostStream postStream, int capacity, int batchSize,
+                           Duration flushInterval) {
+        this.postRepository = postRepository;
+        this.postSearch = postSearch;
+        this.postMapper = postMapper;
+        this.writeLog = writeLog;
+        this.postStream = postStream;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.backoffNanos = flushIntervalNanos;
+    }
+
+    public PostDto submit(PostCreateDto newPost) {
+        if (!running)
+            throw new IllegalStateException("Write buffer is not running");
+        if (buffered.incrementAndGet() > capacity) {
+            buffered.decrementAndGet();
+            throw new WriteBufferFullException("Too many posts waiting to be stored");
+        }
+
+        Post post;
+        try {
+            post = postMapper.toDomain(newPost);
+            post.setId(nextId());
+            post.setCreatedDate(Calendar.getInstance());
+            writeLog.append(post);
+        } catch (RuntimeException e) {
+            buffered.decrementAndGet();
+            throw e;
+        }
+
+        queue.add(post);
+        if (buffered.get() >= batchSize)
+            LockSupport.unpark(flusher);
+        return postMapper.toDto(post);
+    }
+
+    public void start() {
+        List<Post> recovered = writeLog.recover();
+        if (!recovered.isEmpty()) {
+            Map<Boolean, List<Post>> alreadyStored = recovered.stream()
+                    .collect(Collectors.partitioningBy(post -> exists(post.getId())));
+            writeLog.committed(alreadyStored.get(true));
+            buffered.addAndGet(alreadyStored.get(false).size());
+            queue.addAll(alreadyStored.get(false));
+            drain();
+        }
+
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("post-write-buffer")
+                .daemon(true)
+                .start(this::run);
+    }
+
+    public void close() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            LockSupport.unpark(flusher);
+            flusher.join();
+        }
+        drain();
+    }
+
+    public int size() {
+        return buffered.get();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("posts.write_buffer.size", buffered, AtomicInteger::get)
+                .register(registry);
+        FunctionCounter.builder("posts.write_buffer.flushed", flushed, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder("posts.write_buffer.dropped", dropped, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder("posts.write_buffer.failed_flushes", failedFlushes, AtomicLong::get)
+                .register(registry);
+    }
+
+    private void run() {
+        while (running) {
+            if (!pending.isEmpty())
+                backOff();
+            else if (buffered.get() < batchSize)
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            flush();
+        }
+    }
+
+    private void backOff() {
+        long deadline = System.nanoTime() + backoffNanos;
+        long remaining;
+        while (running && (remaining = deadline - System.nanoTime()) > 0)
+            LockSupport.parkNanos(this, remaining);
+    }
+
+    private void drain() {
+        boolean stored = true;
+        while (stored && (!pending.isEmpty() || !queue.isEmpty()))
+            stored = flush();
+    }
+
+    private boolean flush() {
+        if (pending.isEmpty()) {
+            List<Post> batch = new ArrayList<>(batchSize);
+            Post post;
+            while (batch.size() < batchSize && (post = queue.poll()) != null)
+                batch.add(post);
+            pending = batch;
+        }
+        if (pending.isEmpty())
+            return true;
+
+        pending = store(pending);
+        if (pending.isEmpty()) {
+            backoffNanos = flushIntervalNanos;
+            return true;
+        }
+        failedFlushes.incrementAndGet();
+        backoffNanos = Math.min(backoffNanos * 2, MAX_BACKOFF_NANOS);
+        return false;
+    }
+
+    private List<Post> store(List<Post> batch) {
+        List<Post> storedPosts;
+        List<Post> rejectedPosts = new ArrayList<>();
+        List<Post> failedPosts = List.of();
+        try {
+            storedPosts = postRepository.insertAll(batch);
+        } catch (RuntimeException e) {
+            storedPosts = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    storedPosts.addAll(postRepository.insertAll(List.of(batch.get(i))));
+                } catch (DataIntegrityViolationException | ResourceNotFoundException rejection) {
+                    rejectedPosts.add(batch.get(i));
+                } catch (RuntimeException failure) {
+                    failedPosts = List.copyOf(batch.subList(i, batch.size()));
+                    break;
+                }
+            }
+        }
+
+        writeLog.committed(storedPosts);
+        writeLog.committed(rejectedPosts);
+        buffered.addAndGet(-(storedPosts.size() + rejectedPosts.size()));
+        dropped.addAndGet(rejectedPosts.size());
+        storedPosts.forEach(postSearch::index);
+        postStream.publishAll(storedPosts.stream().map(postMapper::toDto).toList());
+        flushed.addAndGet(storedPosts.size());
+        return failedPosts;
+    }
+
+    private long nextId() {
+        Long id;
+        while ((id = reservedIds.poll()) == null) {
+            reserveLock.lock();
+            try {
+                if (reservedIds.isEmpty())
+                    reservedIds.addAll(postRepository.reserveIds(batchSize));
+            } finally {
+                reserveLock.unlock();
+            }
+        }
+        return id;
+    }
+
+    private boolean exists(Long id) {
+        try {
+            postRepository.readById(id);
+            return true;
+        } catch (ResourceNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.dataincloud.services.post.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Calendar;
+
+@Getter @Setter
+public class PostImportDto extends PostCreateDto {
+    @NotNull(message = "Author id cannot be null")
+    @Positive(message = "Incorrect user's id")
+    private Long userId;
+    @PastOrPresent(message = "Date of creation cannot be greater than today")
+    private Calendar createdDate;
+}
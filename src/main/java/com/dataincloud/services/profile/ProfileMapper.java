@@ -0,0 +1,14 @@
+package com.dataincloud.services.profile;
+
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.services.profile.dto.ProfileDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper
+public interface ProfileMapper {
+    Profile toDomain(ProfileDto profileDto);
+
+    @Mapping(target = "photo", ignore = true)
+    ProfileDto toDto(Profile profile);
+}
@@ -1,49 +1,104 @@
 package com.dataincloud.services.profile;
 
+import com.dataincloud.core.UpsertResult;
+import com.dataincloud.core.profile.IPhotoStore;
 import com.dataincloud.core.profile.IProfileRepository;
 import com.dataincloud.core.profile.Profile;
+import com.dataincloud.services.page.PageDto;
+import com.dataincloud.services.page.Pages;
 import com.dataincloud.services.profile.dto.ProfileDto;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.core.io.Resource;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class ProfileService {
     private final IProfileRepository profileRepository;
-    private final ModelMapper modelMapper;
+    private final ProfileMapper profileMapper;
+    private final IPhotoStore photoStore;
 
     public ProfileDto create(ProfileDto newProfile) {
-        return modelMapper.map(
-                profileRepository.create(modelMapper.map(newProfile, Profile.class)),
-                ProfileDto.class
+        return profileMapper.toDto(
+                profileRepository.create(toDomainWithStoredPhoto(newProfile))
         );
     }
 
     public ProfileDto readById(Long userId) {
-        return modelMapper.map(
-                profileRepository.readById(userId),
-                ProfileDto.class
+        return profileMapper.toDto(
+                profileRepository.readById(userId)
         );
     }
 
     public List<ProfileDto> readAll() {
         return profileRepository.readAll().stream()
-                .map(profile -> modelMapper.map(profile, ProfileDto.class))
+                .map(profileMapper::toDto)
                 .toList();
     }
 
+    public PageDto<ProfileDto> readPage(String cursor, Integer size) {
+        int pageSize = Pages.boundSize(size);
+        return Pages.of(
+                profileRepository.readPage(Pages.decodeCursor(cursor), pageSize + 1),
+                pageSize, Profile::getUserId, profileMapper::toDto
+        );
+    }
+
+    public PageDto<ProfileDto> readPageByTags(Set<Profile.ProfileTags> tags, Profile.TagMatch match,
+                                              String cursor, Integer size) {
+        if (tags == null || tags.isEmpty())
+            return readPage(cursor, size);
+
+        int pageSize = Pages.boundSize(size);
+        return Pages.of(
+                profileRepository.readPageByTags(tags, match, Pages.decodeCursor(cursor), pageSize + 1),
+                pageSize, Profile::getUserId, profileMapper::toDto
+        );
+    }
+
     public ProfileDto update(ProfileDto editedProfile) {
-        return modelMapper.map(
-                profileRepository.update(modelMapper.map(editedProfile, Profile.class)),
-                ProfileDto.class
+        Profile profile = toDomainWithStoredPhoto(editedProfile);
+        if (profile.getPhotoId() == null)
+            profile.setPhotoId(profileRepository.readById(profile.getUserId()).getPhotoId());
+        return profileMapper.toDto(
+                profileRepository.update(profile)
+        );
+    }
+
+    public UpsertResult<ProfileDto> save(ProfileDto profile) {
+        UpsertResult<Profile> result = profileRepository.upsert(toDomainWithStoredPhoto(profile));
+        return new UpsertResult<>(profileMapper.toDto(result.getValue()), result.isCreated());
+    }
+
+    public ProfileDto updatePhoto(Long userId, InputStream photo) {
+        Profile profile = profileRepository.readById(userId);
+        profile.setPhotoId(storePhoto(photo));
+        return profileMapper.toDto(
+                profileRepository.update(profile)
         );
     }
 
+    public String storePhoto(InputStream photo) {
+        return photoStore.save(photo);
+    }
+
+    public Resource readPhoto(String photoId) {
+        return photoStore.read(photoId);
+    }
+
     public ProfileDto deleteById(Long userId) {
-        return modelMapper.map(
-                profileRepository.delete(userId),
-                ProfileDto.class
+        return profileMapper.toDto(
+                profileRepository.delete(userId)
         );
     }
+
+    private Profile toDomainWithStoredPhoto(ProfileDto profileDto) {
+        Profile profile = profileMapper.toDomain(profileDto);
+        if (profileDto.getPhoto() != null)
+            profile.setPhotoId(storePhoto(new ByteArrayInputStream(profileDto.getPhoto())));
+        return profile;
+    }
 }
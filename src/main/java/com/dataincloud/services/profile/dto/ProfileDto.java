@@ -2,6 +2,8 @@ package com.dataincloud.services.profile.dto;
 
 import com.dataincloud.core.profile.Profile;
 import com.dataincloud.services.profile.dto.validator.ExistingUser;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,8 +17,11 @@ public class ProfileDto {
     @Positive
     @ExistingUser
     private Long userId;
-    @NotEmpty
-    private Byte[] photo;
+    @Size(min = 1)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private byte[] photo;
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String photoId;
     @NotBlank
     private String firstName;
     @NotBlank
@@ -1,6 +1,5 @@
 package com.dataincloud.services.profile.dto.validator;
 
-import com.dataincloud.core.exceptions.ResourceNotFoundException;
 import com.dataincloud.services.user.UserService;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
@@ -16,11 +15,6 @@ public class ExistingUserValidator implements ConstraintValidator<ExistingUser,
 
     @Override
     public boolean isValid(Long userId, ConstraintValidatorContext constraintValidatorContext) {
-        try {
-            userService.getById(userId);
-            return true;
-        } catch (ResourceNotFoundException ex) {
-            return false;
-        }
+        return userId == null || userService.exists(userId);
     }
 }
@@ -0,0 +1,66 @@
+package com.dataincloud.services.user;
+
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.services.profile.ProfileService;
+import com.dataincloud.services.profile.dto.ProfileDto;
+import com.dataincloud.services.user.dto.FullUserDto;
+import com.dataincloud.services.user.dto.UserDto;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reads a user from Postgres and the profile from Mongo concurrently, so the response takes about as long as the
+ * slower store. Both branches share one deadline; a branch that fails or misses it is reported in
+ * {@link FullUserDto#getUnavailable()} instead of failing the whole response. A late branch is left to finish without
+ * an interrupt, as interrupting a virtual thread in socket I/O closes the pooled connection under it. Only a missing
+ * user is an error. The executor should start every branch at once, as a virtual thread per task does, or queued
+ * branches eat into the deadline.
+ */
+@RequiredArgsConstructor
+public class FullUserService implements AutoCloseable {
+    private final UserService userService;
+    private final ProfileService profileService;
+    private final ExecutorService executor;
+    private final Duration branchTimeout;
+
+    public FullUserDto getById(Long id) {
+        long deadline = System.nanoTime() + branchTimeout.toNanos();
+        Future<UserDto> user = executor.submit(() -> userService.getById(id));
+        Future<ProfileDto> profile = executor.submit(() -> profileService.readById(id));
+
+        FullUserDto fullUser = new FullUserDto();
+        fullUser.setUser(join(user, deadline, "user", fullUser, true));
+        fullUser.setProfile(join(profile, deadline, "profile", fullUser, false));
+        return fullUser;
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private static <T> T join(Future<T> branch, long deadline, String name, FullUserDto fullUser, boolean required) {
+        try {
+            return branch.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ResourceNotFoundException notFound) {
+                if (required)
+                    throw notFound;
+                return null;
+            }
+        } catch (TimeoutException e) {
+            branch.cancel(false);
+        } catch (InterruptedException e) {
+            branch.cancel(false);
+            Thread.currentThread().interrupt();
+        }
+        fullUser.getUnavailable().add(name);
+        return null;
+    }
+}
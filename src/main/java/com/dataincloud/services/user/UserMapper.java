@@ -0,0 +1,29 @@
+package com.dataincloud.services.user;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.user.User;
+import com.dataincloud.services.post.dto.BasicPostDto;
+import com.dataincloud.services.user.dto.BasicUserDto;
+import com.dataincloud.services.user.dto.UserCreateDto;
+import com.dataincloud.services.user.dto.UserDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper
+public interface UserMapper {
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "postCount", ignore = true)
+    @Mapping(target = "recentPosts", ignore = true)
+    User toDomain(UserCreateDto userCreateDto);
+
+    User toDomain(UserDto userDto);
+
+    UserDto toDto(User user);
+
+    BasicUserDto toBasicDto(User user);
+
+    @Mapping(target = "user", ignore = true)
+    Post toPost(BasicPostDto basicPostDto);
+
+    BasicPostDto toBasicPostDto(Post post);
+}
@@ -1,47 +1,92 @@
 package com.dataincloud.services.user;
 
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.post.Post;
 import com.dataincloud.core.user.IUserRepository;
 import com.dataincloud.core.user.User;
+import com.dataincloud.services.post.dto.BasicPostDto;
 import com.dataincloud.services.user.dto.BasicUserDto;
 import com.dataincloud.services.user.dto.UserCreateDto;
 import com.dataincloud.services.user.dto.UserDto;
+import com.dataincloud.services.page.PageDto;
+import com.dataincloud.services.page.Pages;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 
 import java.util.List;
 
 @RequiredArgsConstructor
 public class UserService {
     private final IUserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
 
     public UserDto create(UserCreateDto newUser) {
-        return modelMapper.map(
-            userRepository.create(modelMapper.map(newUser, User.class)), UserDto.class
+        return userMapper.toDto(
+            userRepository.create(userMapper.toDomain(newUser))
         );
     }
 
+    public List<UserDto> createAll(List<UserCreateDto> newUsers) {
+        return userRepository.createAll(newUsers.stream().map(userMapper::toDomain).toList()).stream()
+                .map(userMapper::toDto)
+                .toList();
+    }
+
     public List<BasicUserDto> getAll() {
         return userRepository.readAll().stream()
-                .map(user -> modelMapper.map(user, BasicUserDto.class))
+                .map(userMapper::toBasicDto)
+                .toList();
+    }
+
+    public PageDto<BasicUserDto> getPage(String cursor, Integer size) {
+        int pageSize = Pages.boundSize(size);
+        return Pages.of(
+                userRepository.readPage(Pages.decodeCursor(cursor), pageSize + 1),
+                pageSize, User::getId, userMapper::toBasicDto
+        );
+    }
+
+    public List<BasicUserDto> searchByUsername(String prefix, Integer size) {
+        return userRepository.readByUsernamePrefix(prefix, Pages.boundSize(size)).stream()
+                .map(userMapper::toBasicDto)
                 .toList();
     }
 
+    public BasicUserDto getByUsername(String username) {
+        return userMapper.toBasicDto(
+                userRepository.readByUsername(username)
+        );
+    }
+
     public UserDto getById(Long id) {
-        return modelMapper.map(
-                userRepository.readById(id), UserDto.class
+        return userMapper.toDto(
+                userRepository.readById(id)
         );
     }
 
+    public PageDto<BasicPostDto> getPosts(Long id, String cursor, Integer size) {
+        if (!userRepository.exists(id))
+            throw new ResourceNotFoundException("User not found");
+
+        int pageSize = Pages.boundSize(size);
+        return Pages.of(
+                userRepository.readPosts(id, Pages.decodeCursor(cursor), pageSize + 1),
+                pageSize, Post::getId, userMapper::toBasicPostDto
+        );
+    }
+
+    public boolean exists(Long id) {
+        return userRepository.exists(id);
+    }
+
     public UserDto update(UserDto editedUser) {
-        return modelMapper.map(
-                userRepository.update(modelMapper.map(editedUser, User.class)), UserDto.class
+        return userMapper.toDto(
+                userRepository.update(userMapper.toDomain(editedUser))
         );
     }
 
     public UserDto deleteById(Long id) {
-        return modelMapper.map(
-                userRepository.delete(id), UserDto.class
+        return userMapper.toDto(
+                userRepository.delete(id)
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.dataincloud.services.user.dto;
+
+import com.dataincloud.services.profile.dto.ProfileDto;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter
+public class FullUserDto {
+    private UserDto user;
+    private ProfileDto profile;
+    private List<String> unavailable = new ArrayList<>();
+}
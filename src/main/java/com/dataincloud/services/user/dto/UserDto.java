@@ -8,5 +8,6 @@ import java.util.List;
 
 @Getter @Setter
 public class UserDto extends BasicUserDto{
-    private List<BasicPostDto> posts;
+    private long postCount;
+    private List<BasicPostDto> recentPosts;
 }
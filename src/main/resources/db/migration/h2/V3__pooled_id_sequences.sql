@@ -0,0 +1,7 @@
+CREATE SEQUENCE users_id_seq START WITH 1001 INCREMENT BY 50;
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT NEXT VALUE FOR users_id_seq;
+
+CREATE SEQUENCE posts_id_seq START WITH 1001 INCREMENT BY 50;
+ALTER TABLE posts ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE posts ALTER COLUMN id SET DEFAULT NEXT VALUE FOR posts_id_seq;
@@ -0,0 +1,2 @@
+DROP INDEX users_username_pattern_idx;
+CREATE INDEX users_username_id_idx ON users (username, id);
@@ -0,0 +1,33 @@
+-- H2 has no statement-level transition tables; a row trigger compiled from source keeps the same count.
+-- user_id is the fifth column of posts.
+ALTER TABLE users ADD COLUMN post_count INT NOT NULL DEFAULT 0;
+
+UPDATE users u SET post_count = (SELECT count(*) FROM posts p WHERE p.user_id = u.id);
+
+CREATE TRIGGER posts_count_changes AFTER INSERT, UPDATE, DELETE ON posts FOR EACH ROW AS '
+org.h2.api.Trigger create() {
+    return new org.h2.api.Trigger() {
+        @Override
+        public void fire(java.sql.Connection connection, Object[] oldRow, Object[] newRow)
+                throws java.sql.SQLException {
+            Object oldUser = oldRow == null ? null : oldRow[4];
+            Object newUser = newRow == null ? null : newRow[4];
+            if (java.util.Objects.equals(oldUser, newUser))
+                return;
+            add(connection, oldUser, -1);
+            add(connection, newUser, 1);
+        }
+
+        private void add(java.sql.Connection connection, Object userId, int posts) throws java.sql.SQLException {
+            if (userId == null)
+                return;
+            try (java.sql.PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE users SET post_count = post_count + ? WHERE id = ?")) {
+                statement.setInt(1, posts);
+                statement.setObject(2, userId);
+                statement.executeUpdate();
+            }
+        }
+    };
+}
+';
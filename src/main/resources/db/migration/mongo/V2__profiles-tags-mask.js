@@ -0,0 +1,27 @@
+db.profiles.updateMany({ tagsList: { $exists: true } }, [
+    {
+        $set: {
+            tagsMask: {
+                $sum: {
+                    $map: {
+                        input: { $setUnion: [{ $ifNull: ["$tagsList", []] }, []] },
+                        as: "tag",
+                        in: {
+                            $switch: {
+                                branches: [
+                                    { case: { $eq: ["$$tag", "EDUCATION"] }, then: 1 },
+                                    { case: { $eq: ["$$tag", "BLOG"] }, then: 2 },
+                                    { case: { $eq: ["$$tag", "SHOP"] }, then: 4 }
+                                ],
+                                default: 0
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    },
+    { $unset: "tagsList" }
+]);
+
+db.profiles.createIndex({ tagsMask: 1, _id: 1 }, { name: "profiles_tags_mask_idx" });
@@ -0,0 +1,20 @@
+ALTER TABLE posts ADD COLUMN search_vector tsvector;
+
+CREATE FUNCTION posts_search_vector_update() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector :=
+            setweight(to_tsvector('english', coalesce(NEW.header, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(NEW.description, '')), 'B');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER posts_search_vector_trigger
+    BEFORE INSERT OR UPDATE OF header, description ON posts
+    FOR EACH ROW EXECUTE FUNCTION posts_search_vector_update();
+
+UPDATE posts SET search_vector =
+        setweight(to_tsvector('english', coalesce(header, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B');
+
+CREATE INDEX posts_search_vector_idx ON posts USING GIN (search_vector);
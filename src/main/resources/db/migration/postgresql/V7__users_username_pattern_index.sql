@@ -0,0 +1 @@
+CREATE INDEX users_username_pattern_idx ON users (username text_pattern_ops);
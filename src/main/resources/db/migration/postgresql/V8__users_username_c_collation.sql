@@ -0,0 +1,5 @@
+-- text_pattern_ops only serves LIKE 'prefix%': ORDER BY username still sorts every match under the database collation.
+-- In the "C" collation a plain btree serves both, and orders usernames by code point, as UsernameTrie does.
+DROP INDEX users_username_pattern_idx;
+ALTER TABLE users ALTER COLUMN username TYPE VARCHAR(32) COLLATE "C";
+CREATE INDEX users_username_id_idx ON users (username, id);
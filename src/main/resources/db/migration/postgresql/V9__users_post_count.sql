@@ -0,0 +1,49 @@
+-- Counting a user's posts reads every entry of theirs in the (user_id, id) index, so the count is kept on the user row.
+-- Statement-level triggers with transition tables add it up once per statement, for JPA, COPY and R2DBC writes alike.
+ALTER TABLE users ADD COLUMN post_count INT NOT NULL DEFAULT 0;
+
+UPDATE users u
+SET post_count = c.posts
+FROM (SELECT user_id, count(*) AS posts FROM posts WHERE user_id IS NOT NULL GROUP BY user_id) c
+WHERE u.id = c.user_id;
+
+CREATE FUNCTION posts_count_changes() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE users u
+        SET post_count = u.post_count + c.posts
+        FROM (SELECT user_id, count(*) AS posts FROM new_posts WHERE user_id IS NOT NULL GROUP BY user_id) c
+        WHERE u.id = c.user_id;
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE users u
+        SET post_count = u.post_count - c.posts
+        FROM (SELECT user_id, count(*) AS posts FROM old_posts WHERE user_id IS NOT NULL GROUP BY user_id) c
+        WHERE u.id = c.user_id;
+    ELSE
+        UPDATE users u
+        SET post_count = u.post_count + c.posts
+        FROM (SELECT user_id, sum(posts) AS posts
+              FROM (SELECT n.user_id, 1 AS posts
+                    FROM new_posts n JOIN old_posts o ON o.id = n.id
+                    WHERE n.user_id IS DISTINCT FROM o.user_id
+                    UNION ALL
+                    SELECT o.user_id, -1
+                    FROM new_posts n JOIN old_posts o ON o.id = n.id
+                    WHERE n.user_id IS DISTINCT FROM o.user_id) moved
+              WHERE user_id IS NOT NULL
+              GROUP BY user_id) c
+        WHERE u.id = c.user_id;
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER posts_count_insert AFTER INSERT ON posts
+    REFERENCING NEW TABLE AS new_posts
+    FOR EACH STATEMENT EXECUTE FUNCTION posts_count_changes();
+CREATE TRIGGER posts_count_delete AFTER DELETE ON posts
+    REFERENCING OLD TABLE AS old_posts
+    FOR EACH STATEMENT EXECUTE FUNCTION posts_count_changes();
+CREATE TRIGGER posts_count_update AFTER UPDATE ON posts
+    REFERENCING OLD TABLE AS old_posts NEW TABLE AS new_posts
+    FOR EACH STATEMENT EXECUTE FUNCTION posts_count_changes();
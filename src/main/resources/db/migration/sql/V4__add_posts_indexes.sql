@@ -0,0 +1,2 @@
+CREATE INDEX posts_user_id_idx ON posts (user_id);
+CREATE INDEX posts_created_date_idx ON posts (created_date);
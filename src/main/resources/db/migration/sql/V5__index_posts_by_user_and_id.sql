@@ -0,0 +1,2 @@
+DROP INDEX posts_user_id_idx;
+CREATE INDEX posts_user_id_id_idx ON posts (user_id, id);
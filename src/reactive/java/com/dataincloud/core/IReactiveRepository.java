@@ -0,0 +1,12 @@
+package com.dataincloud.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveRepository <T, ID>{
+    Mono<T> create(T t);
+    Flux<T> readAll();
+    Mono<T> readById(ID id);
+    Mono<T> update(T t);
+    Mono<T> delete(ID id);
+}
@@ -0,0 +1,9 @@
+package com.dataincloud.core.profile;
+
+import com.dataincloud.core.IReactiveRepository;
+import com.dataincloud.core.UpsertResult;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveProfileRepository extends IReactiveRepository<Profile, Long> {
+    Mono<UpsertResult<Profile>> upsert(Profile profile);
+}
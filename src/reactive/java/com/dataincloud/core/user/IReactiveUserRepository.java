@@ -0,0 +1,8 @@
+package com.dataincloud.core.user;
+
+import com.dataincloud.core.IReactiveRepository;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveUserRepository extends IReactiveRepository<User, Long> {
+    Mono<Boolean> exists(Long id);
+}
@@ -0,0 +1,18 @@
+package com.dataincloud.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * WebFlux variant of the service on R2DBC and reactive Mongo, started with {@code ./gradlew bootRunReactive}. It
+ * shares the domain, DTOs and mappers with the servlet application and serves the same paths on its own port, so both
+ * stacks can run side by side against the same databases.
+ */
+@SpringBootApplication
+public class ReactiveApplication {
+	public static void main(String[] args) {
+		SpringApplication application = new SpringApplication(ReactiveApplication.class);
+		application.setAdditionalProfiles("reactive");
+		application.run(args);
+	}
+}
@@ -0,0 +1,44 @@
+package com.dataincloud.reactive.api.configuration;
+
+import com.dataincloud.dal.profile.ProfileDocumentMapper;
+import com.dataincloud.reactive.dal.post.PostRowMapper;
+import com.dataincloud.reactive.dal.user.UserRowMapper;
+import com.dataincloud.services.post.PostMapper;
+import com.dataincloud.services.profile.ProfileMapper;
+import com.dataincloud.services.user.UserMapper;
+import org.mapstruct.factory.Mappers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReactiveBasicConfiguration {
+    @Bean
+    public UserMapper userMapper() {
+        return Mappers.getMapper(UserMapper.class);
+    }
+
+    @Bean
+    public PostMapper postMapper() {
+        return Mappers.getMapper(PostMapper.class);
+    }
+
+    @Bean
+    public ProfileMapper profileMapper() {
+        return Mappers.getMapper(ProfileMapper.class);
+    }
+
+    @Bean
+    public UserRowMapper userRowMapper() {
+        return Mappers.getMapper(UserRowMapper.class);
+    }
+
+    @Bean
+    public PostRowMapper postRowMapper() {
+        return Mappers.getMapper(PostRowMapper.class);
+    }
+
+    @Bean
+    public ProfileDocumentMapper profileDocumentMapper() {
+        return Mappers.getMapper(ProfileDocumentMapper.class);
+    }
+}
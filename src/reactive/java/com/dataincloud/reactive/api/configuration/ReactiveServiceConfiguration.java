@@ -0,0 +1,35 @@
+package com.dataincloud.reactive.api.configuration;
+
+import com.dataincloud.core.IReactiveRepository;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.profile.IReactiveProfileRepository;
+import com.dataincloud.core.user.IReactiveUserRepository;
+import com.dataincloud.reactive.services.post.ReactivePostService;
+import com.dataincloud.reactive.services.profile.ReactiveProfileService;
+import com.dataincloud.reactive.services.user.ReactiveUserService;
+import com.dataincloud.services.post.PostMapper;
+import com.dataincloud.services.profile.ProfileMapper;
+import com.dataincloud.services.user.UserMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReactiveServiceConfiguration {
+    @Bean
+    public ReactiveUserService reactiveUserService(IReactiveUserRepository userRepository, UserMapper userMapper) {
+        return new ReactiveUserService(userRepository, userMapper);
+    }
+
+    @Bean
+    public ReactivePostService reactivePostService(IReactiveRepository<Post, Long> postRepository,
+                                                   PostMapper postMapper) {
+        return new ReactivePostService(postRepository, postMapper);
+    }
+
+    @Bean
+    public ReactiveProfileService reactiveProfileService(IReactiveProfileRepository profileRepository,
+                                                         IReactiveUserRepository userRepository,
+                                                         ProfileMapper profileMapper) {
+        return new ReactiveProfileService(profileRepository, userRepository, profileMapper);
+    }
+}
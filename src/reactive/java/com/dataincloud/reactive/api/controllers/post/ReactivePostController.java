@@ -0,0 +1,46 @@
+package com.dataincloud.reactive.api.controllers.post;
+
+import com.dataincloud.reactive.services.post.ReactivePostService;
+import com.dataincloud.services.post.dto.BasicPostDto;
+import com.dataincloud.services.post.dto.PostCreateDto;
+import com.dataincloud.services.post.dto.PostDto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/posts")
+@RequiredArgsConstructor
+public class ReactivePostController {
+    private final ReactivePostService postService;
+
+    @PostMapping
+    @ResponseStatus(code = HttpStatus.CREATED)
+    public Mono<PostDto> create(@Valid @RequestBody PostCreateDto newPost) {
+        return postService.create(newPost);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<BasicPostDto> getAll() {
+        return postService.getAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<PostDto> getById(@PathVariable Long id) {
+        return postService.getById(id);
+    }
+
+    @PutMapping
+    public Mono<PostDto> update(@Valid @RequestBody PostDto editedPost) {
+        return postService.update(editedPost);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<PostDto> delete(@PathVariable Long id) {
+        return postService.deleteById(id);
+    }
+}
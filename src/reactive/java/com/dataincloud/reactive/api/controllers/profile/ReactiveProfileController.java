@@ -0,0 +1,39 @@
+package com.dataincloud.reactive.api.controllers.profile;
+
+import com.dataincloud.reactive.services.profile.ReactiveProfileService;
+import com.dataincloud.services.profile.dto.ProfileDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+public class ReactiveProfileController {
+    private final ReactiveProfileService profileService;
+
+    @GetMapping(value = "/users/profiles", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ProfileDto> getAll() {
+        return profileService.readAll();
+    }
+
+    @GetMapping("/users/{id}/profiles")
+    public Mono<ProfileDto> getById(@PathVariable("id") Long userId) {
+        return profileService.readById(userId);
+    }
+
+    @PutMapping("/users/profiles")
+    public Mono<ResponseEntity<ProfileDto>> save(@RequestBody ProfileDto inputProfile) {
+        return profileService.save(inputProfile)
+                .map(result -> ResponseEntity.status(result.isCreated() ? HttpStatus.CREATED : HttpStatus.OK)
+                        .body(result.getValue()));
+    }
+
+    @DeleteMapping("/users/{id}/profiles")
+    public Mono<ProfileDto> delete(@PathVariable("id") Long userId) {
+        return profileService.deleteById(userId);
+    }
+}
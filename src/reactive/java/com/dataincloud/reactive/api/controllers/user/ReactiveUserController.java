@@ -0,0 +1,46 @@
+package com.dataincloud.reactive.api.controllers.user;
+
+import com.dataincloud.reactive.services.user.ReactiveUserService;
+import com.dataincloud.services.user.dto.BasicUserDto;
+import com.dataincloud.services.user.dto.UserCreateDto;
+import com.dataincloud.services.user.dto.UserDto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+public class ReactiveUserController {
+    private final ReactiveUserService userService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<UserDto> create(@RequestBody @Valid UserCreateDto newUser) {
+        return userService.create(newUser);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<BasicUserDto> getAll() {
+        return userService.getAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<UserDto> getById(@PathVariable Long id) {
+        return userService.getById(id);
+    }
+
+    @PutMapping
+    public Mono<UserDto> update(@Valid @RequestBody UserDto editedUser) {
+        return userService.update(editedUser);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<UserDto> delete(@PathVariable Long id) {
+        return userService.deleteById(id);
+    }
+}
@@ -0,0 +1,55 @@
+package com.dataincloud.reactive.dal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out ids from whole blocks of the pooled id sequences, a value {@code V} owning the ids {@code V-49..V} as with
+ * the servlet variant's JPA generators. Inserting without an id would leave it to the column default, which calls
+ * nextval once per row and so spends a whole block on every row.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactivePooledIds {
+    private static final int BLOCK_SIZE = 50;
+
+    private final DatabaseClient databaseClient;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    /**
+     * Two callers finding the block used up both take a new one; the later drops the rest of the earlier, so ids may
+     * be skipped but never handed out twice.
+     */
+    private static final class Block {
+        private long next = 1;
+        private long end;
+
+        private synchronized long take() {
+            return next <= end ? next++ : 0;
+        }
+
+        private synchronized long refill(long blockEnd) {
+            end = blockEnd;
+            next = blockEnd - BLOCK_SIZE + 2;
+            return blockEnd - BLOCK_SIZE + 1;
+        }
+    }
+
+    public Mono<Long> next(String sequence) {
+        Block block = blocks.computeIfAbsent(sequence, name -> new Block());
+        return Mono.defer(() -> {
+            long id = block.take();
+            if (id != 0)
+                return Mono.just(id);
+            return databaseClient.sql("SELECT nextval('" + sequence + "')")
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .map(block::refill);
+        });
+    }
+}
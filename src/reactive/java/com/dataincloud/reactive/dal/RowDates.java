@@ -0,0 +1,32 @@
+package com.dataincloud.reactive.dal;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+/**
+ * Conversions between the {@link Calendar} fields of the domain and the {@code java.time} types R2DBC drivers bind,
+ * used by the row mappers.
+ */
+public final class RowDates {
+    private RowDates() {
+    }
+
+    public static LocalDate toLocalDate(Calendar calendar) {
+        return calendar == null ? null : LocalDate.ofInstant(calendar.toInstant(), calendar.getTimeZone().toZoneId());
+    }
+
+    public static LocalDateTime toLocalDateTime(Calendar calendar) {
+        return calendar == null ? null : LocalDateTime.ofInstant(calendar.toInstant(), calendar.getTimeZone().toZoneId());
+    }
+
+    public static Calendar toCalendar(LocalDate date) {
+        return date == null ? null : GregorianCalendar.from(date.atStartOfDay(ZoneId.systemDefault()));
+    }
+
+    public static Calendar toCalendar(LocalDateTime dateTime) {
+        return dateTime == null ? null : GregorianCalendar.from(dateTime.atZone(ZoneId.systemDefault()));
+    }
+}
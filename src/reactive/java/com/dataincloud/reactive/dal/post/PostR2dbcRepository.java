@@ -0,0 +1,27 @@
+package com.dataincloud.reactive.dal.post;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface PostR2dbcRepository extends ReactiveCrudRepository<PostRow, Long> {
+    String SELECT_WITH_USER = """
+            SELECT p.id, p.header, p.description, p.created_date, p.user_id, u.username, u.birth_date
+            FROM posts p LEFT JOIN users u ON u.id = p.user_id
+            """;
+
+    @Query(SELECT_WITH_USER + "ORDER BY p.id")
+    Flux<PostWithUserRow> findAllWithUser();
+
+    @Query(SELECT_WITH_USER + "WHERE p.id = :id")
+    Mono<PostWithUserRow> findByIdWithUser(@Param("id") Long id);
+
+    Flux<PostRow> findTop10ByUserIdOrderByIdDesc(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM posts WHERE user_id = :userId")
+    Mono<Integer> deleteAllByUserId(@Param("userId") Long userId);
+}
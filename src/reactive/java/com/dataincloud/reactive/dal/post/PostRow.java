@@ -0,0 +1,21 @@
+package com.dataincloud.reactive.dal.post;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table("posts")
+@NoArgsConstructor
+@Getter @Setter
+public class PostRow {
+    @Id
+    private Long id;
+    private String header;
+    private String description;
+    private LocalDateTime createdDate;
+    private Long userId;
+}
@@ -0,0 +1,22 @@
+package com.dataincloud.reactive.dal.post;
+
+import com.dataincloud.core.post.Post;
+import com.dataincloud.reactive.dal.RowDates;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(uses = RowDates.class)
+public interface PostRowMapper {
+    @Mapping(target = "userId", source = "user.id")
+    PostRow toRow(Post post);
+
+    @Mapping(target = "user", ignore = true)
+    Post toDomain(PostRow postRow);
+
+    @Mapping(target = "user.id", source = "userId")
+    @Mapping(target = "user.username", source = "username")
+    @Mapping(target = "user.birthDate", source = "birthDate")
+    @Mapping(target = "user.postCount", ignore = true)
+    @Mapping(target = "user.recentPosts", ignore = true)
+    Post toDomain(PostWithUserRow postWithUserRow);
+}
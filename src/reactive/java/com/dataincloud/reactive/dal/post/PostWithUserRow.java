@@ -0,0 +1,20 @@
+package com.dataincloud.reactive.dal.post;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter @Setter
+public class PostWithUserRow {
+    private Long id;
+    private String header;
+    private String description;
+    private LocalDateTime createdDate;
+    private Long userId;
+    private String username;
+    private LocalDate birthDate;
+}
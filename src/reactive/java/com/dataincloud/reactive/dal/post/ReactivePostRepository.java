@@ -0,0 +1,72 @@
+package com.dataincloud.reactive.dal.post;
+
+import com.dataincloud.core.IReactiveRepository;
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.reactive.dal.ReactivePooledIds;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Calendar;
+
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class ReactivePostRepository implements IReactiveRepository<Post, Long> {
+    private final PostR2dbcRepository postRepository;
+    private final PostRowMapper postMapper;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final ReactivePooledIds pooledIds;
+
+    @Override
+    public Mono<Post> create(Post newPost) {
+        if (newPost.getCreatedDate() == null)
+            newPost.setCreatedDate(Calendar.getInstance());
+        return pooledIds.next("posts_id_seq")
+                .flatMap(id -> {
+                    PostRow row = postMapper.toRow(newPost);
+                    row.setId(id);
+                    return entityTemplate.insert(row);
+                })
+                .map(postRow -> {
+                    Post createdPost = postMapper.toDomain(postRow);
+                    createdPost.setUser(newPost.getUser());
+                    return createdPost;
+                });
+    }
+
+    /**
+     * Streams the join straight from the driver; rows are fetched as the subscriber requests them.
+     */
+    @Override
+    public Flux<Post> readAll() {
+        return postRepository.findAllWithUser()
+                .map(postMapper::toDomain);
+    }
+
+    @Override
+    public Mono<Post> readById(Long id) {
+        return postRepository.findByIdWithUser(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Post not found")))
+                .map(postMapper::toDomain);
+    }
+
+    @Override
+    public Mono<Post> update(Post editedPost) {
+        return postRepository.existsById(editedPost.getId())
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Post not found")))
+                .then(postRepository.save(postMapper.toRow(editedPost)))
+                .then(readById(editedPost.getId()));
+    }
+
+    @Override
+    public Mono<Post> delete(Long id) {
+        return readById(id)
+                .flatMap(post -> postRepository.deleteById(id).thenReturn(post));
+    }
+}
@@ -0,0 +1,9 @@
+package com.dataincloud.reactive.dal.profile;
+
+import com.dataincloud.dal.profile.ProfileDocument;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+public interface ProfileReactiveMongoRepository extends ReactiveMongoRepository<ProfileDocument, Long> {
+    Flux<ProfileDocument> findAllByOrderByUserIdAsc();
+}
@@ -0,0 +1,88 @@
+package com.dataincloud.reactive.dal.profile;
+
+import com.dataincloud.core.UpsertResult;
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.profile.IReactiveProfileRepository;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.dal.profile.ProfileDocument;
+import com.dataincloud.dal.profile.ProfileDocumentMapper;
+import com.dataincloud.dal.profile.ProfileTagMask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveProfileRepository implements IReactiveProfileRepository {
+    private final ProfileReactiveMongoRepository profileRepository;
+    private final ProfileDocumentMapper profileMapper;
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<Profile> create(Profile profile) {
+        return profileRepository.save(profileMapper.toDocument(profile))
+                .map(profileMapper::toDomain);
+    }
+
+    @Override
+    public Flux<Profile> readAll() {
+        return profileRepository.findAllByOrderByUserIdAsc()
+                .map(profileMapper::toDomain);
+    }
+
+    @Override
+    public Mono<Profile> readById(Long userId) {
+        return profileRepository.findById(userId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Profile not found")))
+                .map(profileMapper::toDomain);
+    }
+
+    @Override
+    public Mono<Profile> update(Profile editedProfile) {
+        return profileRepository.existsById(editedProfile.getUserId())
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Profile not found")))
+                .then(profileRepository.save(profileMapper.toDocument(editedProfile)))
+                .map(profileMapper::toDomain);
+    }
+
+    /**
+     * Same single {@code findAndModify(upsert)} as the blocking repository: the pre-image tells whether the document
+     * existed and supplies the stored photo id.
+     */
+    @Override
+    public Mono<UpsertResult<Profile>> upsert(Profile profile) {
+        ProfileDocument document = profileMapper.toDocument(profile);
+        Update update = new Update()
+                .set("firstName", document.getFirstName())
+                .set("lastName", document.getLastName())
+                .set("birthDate", document.getBirthDate())
+                .set(ProfileTagMask.FIELD, document.getTagsMask());
+        if (document.getPhotoId() != null)
+            update.set("photoId", document.getPhotoId());
+
+        return mongoTemplate.findAndModify(
+                        query(where("_id").is(document.getUserId())), update,
+                        FindAndModifyOptions.options().upsert(true).returnNew(false), ProfileDocument.class
+                )
+                .map(previous -> {
+                    if (document.getPhotoId() == null)
+                        document.setPhotoId(previous.getPhotoId());
+                    return new UpsertResult<>(profileMapper.toDomain(document), false);
+                })
+                .defaultIfEmpty(new UpsertResult<>(profileMapper.toDomain(document), true));
+    }
+
+    @Override
+    public Mono<Profile> delete(Long userId) {
+        return readById(userId)
+                .flatMap(profile -> profileRepository.deleteById(userId).thenReturn(profile));
+    }
+}
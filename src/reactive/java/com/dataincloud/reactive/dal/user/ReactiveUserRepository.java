@@ -0,0 +1,92 @@
+package com.dataincloud.reactive.dal.user;
+
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.user.IReactiveUserRepository;
+import com.dataincloud.core.user.User;
+import com.dataincloud.reactive.dal.ReactivePooledIds;
+import com.dataincloud.reactive.dal.post.PostR2dbcRepository;
+import com.dataincloud.reactive.dal.post.PostRowMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class ReactiveUserRepository implements IReactiveUserRepository {
+    private final UserR2dbcRepository userRepository;
+    private final PostR2dbcRepository postRepository;
+    private final UserRowMapper userMapper;
+    private final PostRowMapper postMapper;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final ReactivePooledIds pooledIds;
+
+    @Override
+    public Mono<User> create(User newUser) {
+        return pooledIds.next("users_id_seq")
+                .flatMap(id -> {
+                    UserRow row = userMapper.toRow(newUser);
+                    row.setId(id);
+                    return entityTemplate.insert(row);
+                })
+                .map(userMapper::toDomain)
+                .doOnNext(user -> user.setRecentPosts(List.of()));
+    }
+
+    @Override
+    public Flux<User> readAll() {
+        return userRepository.findAllByOrderByIdAsc()
+                .map(userMapper::toDomain);
+    }
+
+    @Override
+    public Mono<User> readById(Long id) {
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("User not found")))
+                .map(userMapper::toDomain)
+                .flatMap(this::withPosts);
+    }
+
+    @Override
+    public Mono<Boolean> exists(Long id) {
+        return userRepository.existsById(id);
+    }
+
+    @Override
+    public Mono<User> update(User editedUser) {
+        return userRepository.existsById(editedUser.getId())
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("User not found")))
+                .then(userRepository.save(userMapper.toRow(editedUser)))
+                .map(userMapper::toDomain)
+                .flatMap(this::withPosts);
+    }
+
+    /**
+     * Posts are deleted first, as the servlet variant cascades the delete through JPA and the schema does not.
+     */
+    @Override
+    public Mono<User> delete(Long id) {
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("User not found")))
+                .flatMap(user -> postRepository.deleteAllByUserId(id)
+                        .then(userRepository.deleteById(id))
+                        .thenReturn(userMapper.toDomain(user)));
+    }
+
+    private Mono<User> withPosts(User user) {
+        return Mono.zip(
+                userRepository.findPostCountById(user.getId()),
+                postRepository.findTop10ByUserIdOrderByIdDesc(user.getId()).map(postMapper::toDomain).collectList()
+        ).map(postsSummary -> {
+            user.setPostCount(postsSummary.getT1());
+            user.setRecentPosts(postsSummary.getT2());
+            return user;
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.dataincloud.reactive.dal.user;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface UserR2dbcRepository extends ReactiveCrudRepository<UserRow, Long> {
+    Flux<UserRow> findAllByOrderByIdAsc();
+
+    @Query("SELECT post_count FROM users WHERE id = :id")
+    Mono<Long> findPostCountById(Long id);
+}
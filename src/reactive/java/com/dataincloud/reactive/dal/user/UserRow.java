@@ -0,0 +1,19 @@
+package com.dataincloud.reactive.dal.user;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+@Table("users")
+@NoArgsConstructor
+@Getter @Setter
+public class UserRow {
+    @Id
+    private Long id;
+    private String username;
+    private LocalDate birthDate;
+}
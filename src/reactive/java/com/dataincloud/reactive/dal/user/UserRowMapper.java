@@ -0,0 +1,15 @@
+package com.dataincloud.reactive.dal.user;
+
+import com.dataincloud.core.user.User;
+import com.dataincloud.reactive.dal.RowDates;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(uses = RowDates.class)
+public interface UserRowMapper {
+    UserRow toRow(User user);
+
+    @Mapping(target = "postCount", ignore = true)
+    @Mapping(target = "recentPosts", ignore = true)
+    User toDomain(UserRow userRow);
+}
@@ -0,0 +1,42 @@
+package com.dataincloud.reactive.services.post;
+
+import com.dataincloud.core.IReactiveRepository;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.services.post.PostMapper;
+import com.dataincloud.services.post.dto.BasicPostDto;
+import com.dataincloud.services.post.dto.PostCreateDto;
+import com.dataincloud.services.post.dto.PostDto;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactivePostService {
+    private final IReactiveRepository<Post, Long> postRepository;
+    private final PostMapper postMapper;
+
+    public Mono<PostDto> create(PostCreateDto newPost) {
+        return postRepository.create(postMapper.toDomain(newPost))
+                .map(postMapper::toDto);
+    }
+
+    public Flux<BasicPostDto> getAll() {
+        return postRepository.readAll()
+                .map(postMapper::toBasicDto);
+    }
+
+    public Mono<PostDto> getById(Long id) {
+        return postRepository.readById(id)
+                .map(postMapper::toDto);
+    }
+
+    public Mono<PostDto> update(PostDto editedPost) {
+        return postRepository.update(postMapper.toDomain(editedPost))
+                .map(postMapper::toDto);
+    }
+
+    public Mono<PostDto> deleteById(Long id) {
+        return postRepository.delete(id)
+                .map(postMapper::toDto);
+    }
+}
@@ -0,0 +1,45 @@
+package com.dataincloud.reactive.services.profile;
+
+import com.dataincloud.core.UpsertResult;
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.profile.IReactiveProfileRepository;
+import com.dataincloud.core.user.IReactiveUserRepository;
+import com.dataincloud.services.profile.ProfileMapper;
+import com.dataincloud.services.profile.dto.ProfileDto;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Profiles without photo uploads: the photo store is blocking file I/O, so photo ids are only carried over from the
+ * stored document. The user check replaces {@code @ExistingUser}, whose validator needs the blocking user service.
+ */
+@RequiredArgsConstructor
+public class ReactiveProfileService {
+    private final IReactiveProfileRepository profileRepository;
+    private final IReactiveUserRepository userRepository;
+    private final ProfileMapper profileMapper;
+
+    public Flux<ProfileDto> readAll() {
+        return profileRepository.readAll()
+                .map(profileMapper::toDto);
+    }
+
+    public Mono<ProfileDto> readById(Long userId) {
+        return profileRepository.readById(userId)
+                .map(profileMapper::toDto);
+    }
+
+    public Mono<UpsertResult<ProfileDto>> save(ProfileDto profile) {
+        return userRepository.exists(profile.getUserId())
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("User not found")))
+                .then(profileRepository.upsert(profileMapper.toDomain(profile)))
+                .map(result -> new UpsertResult<>(profileMapper.toDto(result.getValue()), result.isCreated()));
+    }
+
+    public Mono<ProfileDto> deleteById(Long userId) {
+        return profileRepository.delete(userId)
+                .map(profileMapper::toDto);
+    }
+}
@@ -0,0 +1,41 @@
+package com.dataincloud.reactive.services.user;
+
+import com.dataincloud.core.user.IReactiveUserRepository;
+import com.dataincloud.services.user.UserMapper;
+import com.dataincloud.services.user.dto.BasicUserDto;
+import com.dataincloud.services.user.dto.UserCreateDto;
+import com.dataincloud.services.user.dto.UserDto;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactiveUserService {
+    private final IReactiveUserRepository userRepository;
+    private final UserMapper userMapper;
+
+    public Mono<UserDto> create(UserCreateDto newUser) {
+        return userRepository.create(userMapper.toDomain(newUser))
+                .map(userMapper::toDto);
+    }
+
+    public Flux<BasicUserDto> getAll() {
+        return userRepository.readAll()
+                .map(userMapper::toBasicDto);
+    }
+
+    public Mono<UserDto> getById(Long id) {
+        return userRepository.readById(id)
+                .map(userMapper::toDto);
+    }
+
+    public Mono<UserDto> update(UserDto editedUser) {
+        return userRepository.update(userMapper.toDomain(editedUser))
+                .map(userMapper::toDto);
+    }
+
+    public Mono<UserDto> deleteById(Long id) {
+        return userRepository.delete(id)
+                .map(userMapper::toDto);
+    }
+}
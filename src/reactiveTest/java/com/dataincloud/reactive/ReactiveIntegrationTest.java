@@ -0,0 +1,57 @@
+package com.dataincloud.reactive;
+
+import com.dataincloud.services.user.dto.UserDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Starts the WebFlux variant on a random port against PostgreSQL and MongoDB containers. The containers are started
+ * once for all test classes, so they share one cached application context; Flyway creates the schema over JDBC.
+ */
+@SpringBootTest(classes = ReactiveApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+public abstract class ReactiveIntegrationTest {
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.2");
+    private static final MongoDBContainer mongoDb = new MongoDBContainer("mongo:latest");
+
+    static {
+        postgres.start();
+        mongoDb.start();
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(
+                postgres.getHost(), postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT),
+                postgres.getDatabaseName()));
+        registry.add("spring.r2dbc.username", postgres::getUsername);
+        registry.add("spring.r2dbc.password", postgres::getPassword);
+        registry.add("spring.flyway.url", postgres::getJdbcUrl);
+        registry.add("spring.flyway.user", postgres::getUsername);
+        registry.add("spring.flyway.password", postgres::getPassword);
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration/sql,classpath:db/migration/{vendor}");
+        registry.add("spring.data.mongodb.uri", mongoDb::getReplicaSetUrl);
+    }
+
+    @Autowired
+    protected WebTestClient webTestClient;
+
+    protected long createUser(String username) {
+        return webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"username\": \"%s\", \"birthDate\": \"2002-03-18\"}".formatted(username))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(UserDto.class)
+                .returnResult()
+                .getResponseBody()
+                .getId();
+    }
+}
@@ -0,0 +1,101 @@
+package com.dataincloud.reactive.api.controllers.post;
+
+import com.dataincloud.reactive.ReactiveIntegrationTest;
+import com.dataincloud.services.post.dto.BasicPostDto;
+import com.dataincloud.services.post.dto.PostDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReactivePostControllerIntegrationTest extends ReactiveIntegrationTest {
+    @Test
+    void createAndGetPostTest() {
+        long postId = createPost("Reactive header");
+
+        webTestClient.get().uri("/posts/{id}", postId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.header").isEqualTo("Reactive header")
+                .jsonPath("$.description").isEqualTo("Description");
+    }
+
+    @Test
+    void createInvalidPostTest() {
+        webTestClient.post().uri("/posts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"header\": \"\", \"description\": \"Description\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void getAllPostsStreamsNdjsonTest() {
+        long postId = createPost("Streamed header");
+
+        List<BasicPostDto> posts = webTestClient.get().uri("/posts")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(BasicPostDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(posts).extracting(BasicPostDto::getId).contains(postId);
+    }
+
+    @Test
+    void updatePostMovesItToUserTest() {
+        long userId = createUser("post_author");
+        long postId = createPost("Moved header");
+
+        webTestClient.put().uri("/posts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"id": %d, "header": "Edited header", "description": "Description",
+                         "createdDate": "2024-01-01T00:00:00.000+00:00", "user": {"id": %d}}
+                        """.formatted(postId, userId))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PostDto.class)
+                .value(post -> assertThat(post.getUser().getId()).isEqualTo(userId));
+
+        webTestClient.get().uri("/users/{id}", userId)
+                .exchange()
+                .expectBody()
+                .jsonPath("$.postCount").isEqualTo(1)
+                .jsonPath("$.recentPosts[0].header").isEqualTo("Edited header");
+    }
+
+    @Test
+    void deletePostTest() {
+        long postId = createPost("Deleted header");
+
+        webTestClient.delete().uri("/posts/{id}", postId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(postId);
+
+        webTestClient.get().uri("/posts/{id}", postId)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private long createPost(String header) {
+        return webTestClient.post().uri("/posts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"header\": \"%s\", \"description\": \"Description\"}".formatted(header))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(PostDto.class)
+                .returnResult()
+                .getResponseBody()
+                .getId();
+    }
+}
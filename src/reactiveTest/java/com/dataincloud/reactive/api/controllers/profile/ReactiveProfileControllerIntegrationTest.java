@@ -0,0 +1,95 @@
+package com.dataincloud.reactive.api.controllers.profile;
+
+import com.dataincloud.reactive.ReactiveIntegrationTest;
+import com.dataincloud.services.profile.dto.ProfileDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReactiveProfileControllerIntegrationTest extends ReactiveIntegrationTest {
+    @Test
+    void saveCreatesThenUpdatesProfileTest() {
+        long userId = createUser("profile_user");
+
+        webTestClient.put().uri("/users/profiles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(profile(userId, "First", "BLOG"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("First");
+
+        webTestClient.put().uri("/users/profiles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(profile(userId, "Second", "SHOP"))
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.get().uri("/users/{id}/profiles", userId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("Second")
+                .jsonPath("$.tags[0]").isEqualTo("SHOP");
+    }
+
+    @Test
+    void saveProfileForNonExistentUserTest() {
+        webTestClient.put().uri("/users/profiles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(profile(0L, "Nobody", "BLOG"))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getAllProfilesStreamsNdjsonTest() {
+        long userId = createUser("streamed_profile_user");
+        webTestClient.put().uri("/users/profiles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(profile(userId, "Streamed", "EDUCATION"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        List<ProfileDto> profiles = webTestClient.get().uri("/users/profiles")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ProfileDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(profiles).extracting(ProfileDto::getUserId).contains(userId);
+    }
+
+    @Test
+    void deleteProfileTest() {
+        long userId = createUser("deleted_profile_user");
+        webTestClient.put().uri("/users/profiles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(profile(userId, "Deleted", "BLOG"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.delete().uri("/users/{id}/profiles", userId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.userId").isEqualTo(userId);
+
+        webTestClient.get().uri("/users/{id}/profiles", userId)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private static String profile(long userId, String firstName, String tag) {
+        return """
+                {"userId": %d, "firstName": "%s", "lastName": "Last", "birthDate": "2002-03-18", "tags": ["%s"]}
+                """.formatted(userId, firstName, tag);
+    }
+}
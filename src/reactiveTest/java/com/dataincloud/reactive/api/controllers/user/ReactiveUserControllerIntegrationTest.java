@@ -0,0 +1,101 @@
+package com.dataincloud.reactive.api.controllers.user;
+
+import com.dataincloud.reactive.ReactiveIntegrationTest;
+import com.dataincloud.services.user.dto.BasicUserDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReactiveUserControllerIntegrationTest extends ReactiveIntegrationTest {
+    @Test
+    void createAndGetUserTest() {
+        long userId = createUser("reactive_user");
+
+        webTestClient.get().uri("/users/{id}", userId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.username").isEqualTo("reactive_user")
+                .jsonPath("$.postCount").isEqualTo(0)
+                .jsonPath("$.recentPosts").isEmpty();
+    }
+
+    @Test
+    void createdUsersTakeConsecutiveIdsTest() {
+        long first = createUser("first_user");
+        long second = createUser("second_user");
+
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    void createInvalidUserTest() {
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"username\": \"\", \"birthDate\": \"2002-03-18\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.username").exists();
+    }
+
+    @Test
+    void getAllUsersStreamsNdjsonTest() {
+        long userId = createUser("streamed_user");
+
+        List<BasicUserDto> users = webTestClient.get().uri("/users")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(BasicUserDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(users).extracting(BasicUserDto::getId).contains(userId);
+    }
+
+    @Test
+    void getNonExistentUserTest() {
+        webTestClient.get().uri("/users/{id}", 0L)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void updateUserTest() {
+        long userId = createUser("old_name");
+
+        webTestClient.put().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"id\": %d, \"username\": \"new_name\", \"birthDate\": \"2002-03-18\"}".formatted(userId))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.username").isEqualTo("new_name");
+
+        webTestClient.get().uri("/users/{id}", userId)
+                .exchange()
+                .expectBody()
+                .jsonPath("$.username").isEqualTo("new_name");
+    }
+
+    @Test
+    void deleteUserTest() {
+        long userId = createUser("deleted_user");
+
+        webTestClient.delete().uri("/users/{id}", userId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(userId);
+
+        webTestClient.get().uri("/users/{id}", userId)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,34 @@
+package com.dataincloud.api;
+
+import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.core.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.Calendar;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "memory.snapshot.file=${java.io.tmpdir}/data-in-cloud-test/memory-snapshot.json")
+@ActiveProfiles("memory")
+class MemoryModeApplicationTests {
+	@Autowired
+	private IUserRepository userRepository;
+	@Autowired(required = false)
+	private DataSource dataSource;
+
+	@Test
+	void contextLoadsWithoutDatabases() {
+		User user = new User();
+		user.setUsername("memory_user");
+		user.setBirthDate(Calendar.getInstance());
+
+		User created = userRepository.create(user);
+
+		assertThat(dataSource).isNull();
+		assertThat(userRepository.readById(created.getId()).getUsername()).isEqualTo("memory_user");
+	}
+}
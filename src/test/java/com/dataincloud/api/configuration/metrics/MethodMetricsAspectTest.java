@@ -0,0 +1,71 @@
+package com.dataincloud.api.configuration.metrics;
+
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.dal.cache.CachingUserRepository;
+import com.dataincloud.dal.cache.EntityCaches;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MethodMetricsAspectTest {
+    @Mock
+    private IUserRepository userRepository;
+
+    private SimpleMeterRegistry registry;
+    private IUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new CachingUserRepository(userRepository, new EntityCaches(1024 * 1024, Duration.ofMinutes(1))));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MethodMetricsAspect(registry, Map.of(CachingUserRepository.class, "cache")));
+        repository = factory.getProxy();
+    }
+
+    @Test
+    void recordsSuccessfulCallsTest() {
+        when(userRepository.readAll()).thenReturn(List.of());
+
+        repository.readAll();
+        repository.readAll();
+
+        Timer timer = registry.get(MethodMetricsAspect.REPOSITORY_METRIC)
+                .tags("class", "CachingUserRepository", "method", "readAll", "store", "cache", "outcome", "success")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(Arrays.stream(timer.takeSnapshot().percentileValues()).map(ValueAtPercentile::percentile))
+                .containsExactly(0.5, 0.99, 0.999);
+    }
+
+    @Test
+    void recordsFailedCallsByOutcomeTest() {
+        when(userRepository.delete(1L)).thenThrow(new ResourceNotFoundException());
+        when(userRepository.delete(2L)).thenThrow(new IllegalStateException());
+
+        assertThatThrownBy(() -> repository.delete(1L)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> repository.delete(2L)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get(MethodMetricsAspect.REPOSITORY_METRIC)
+                .tags("method", "delete", "outcome", "not_found").timer().count()).isEqualTo(1);
+        assertThat(registry.get(MethodMetricsAspect.REPOSITORY_METRIC)
+                .tags("method", "delete", "outcome", "error").timer().count()).isEqualTo(1);
+    }
+}
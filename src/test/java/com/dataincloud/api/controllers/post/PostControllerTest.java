@@ -1,9 +1,12 @@
 package com.dataincloud.api.controllers.post;
 
 import com.dataincloud.api.Application;
+import com.dataincloud.core.post.IPostRepository;
 import com.dataincloud.services.post.dto.PostCreateDto;
 import com.dataincloud.services.post.dto.PostDto;
 import com.dataincloud.services.user.dto.BasicUserDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -17,9 +20,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Calendar;
+import java.util.List;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -30,6 +36,8 @@ class PostControllerTest {
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private IPostRepository postRepository;
 
     static class PostCreateDtoBuilder {
         private String header;
@@ -105,6 +113,82 @@ class PostControllerTest {
 
     }
 
+    @Test
+    void searchPostsTest() throws Exception {
+        List<PostCreateDto> newPosts = List.of(
+                new PostCreateDtoBuilder().header("Zebra crossing").description("black and white").build(),
+                new PostCreateDtoBuilder().header("Painted stripes").description("a zebra on the road").build(),
+                new PostCreateDtoBuilder().header("Unrelated").description("nothing to see").build()
+        );
+        mockMvc.perform(
+                post("/posts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newPosts)))
+                .andExpect(status().isCreated());
+
+        MvcResult firstPage = mockMvc.perform(get("/posts/search").param("q", "zebra").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].header").value("Zebra crossing"))
+                .andReturn();
+        String next = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("next").asText();
+
+        mockMvc.perform(get("/posts/search").param("q", "zebra").param("size", "1").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].header").value("Painted stripes"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        mockMvc.perform(get("/posts/search").param("q", "zebra road"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)));
+    }
+
+    @Test
+    void exportPostsTest() throws Exception {
+        PostCreateDto newPost = new PostCreateDtoBuilder()
+                .header("exported_header")
+                .description("exported_description")
+                .build();
+        MvcResult created = mockMvc.perform(
+                post("/posts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newPost)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        PostDto createdPost = objectMapper.readValue(created.getResponse().getContentAsString(), PostDto.class);
+
+        MvcResult result = mockMvc.perform(get("/posts/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        List<PostDto> exportedPosts = body.lines()
+                .<PostDto>map(line -> {
+                    try {
+                        return objectMapper.readValue(line, PostDto.class);
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+
+        assertThat(exportedPosts).hasSize(postRepository.readAll().size());
+        assertThat(exportedPosts).extracting(PostDto::getId).isSorted().doesNotHaveDuplicates();
+        assertThat(exportedPosts)
+                .filteredOn(post -> post.getId().equals(createdPost.getId()))
+                .singleElement()
+                .satisfies(post -> {
+                    assertThat(post.getHeader()).isEqualTo("exported_header");
+                    assertThat(post.getDescription()).isEqualTo("exported_description");
+                });
+    }
+
     @Test
     void updatePostTest() throws Exception {
         PostCreateDto newPost = new PostCreateDtoBuilder()
@@ -135,6 +219,55 @@ class PostControllerTest {
 
     }
 
+    @Test
+    void createUpdateAndDeletePostsBatchTest() throws Exception {
+        List<PostCreateDto> newPosts = List.of(
+                new PostCreateDtoBuilder().header("batch_header_1").description("description").build(),
+                new PostCreateDtoBuilder().header("batch_header_2").description("description").build()
+        );
+
+        MvcResult result = mockMvc.perform(
+                post("/posts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newPosts)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andReturn();
+
+        List<PostDto> createdPosts = objectMapper.readValue(
+                result.getResponse().getContentAsString(), new TypeReference<>() {}
+        );
+        BasicUserDto author = new BasicUserDto();
+        author.setId(1L);
+        for (PostDto createdPost : createdPosts) {
+            createdPost.setHeader("edited_" + createdPost.getHeader());
+            createdPost.setCreatedDate(Calendar.getInstance());
+            createdPost.setUser(author);
+        }
+
+        mockMvc.perform(
+                put("/posts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createdPosts)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].header").value("edited_batch_header_1"));
+
+        mockMvc.perform(
+                delete("/posts")
+                        .param("ids", createdPosts.get(0).getId() + "," + createdPosts.get(1).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+
+        mockMvc.perform(get("/posts/{id}", createdPosts.get(0).getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteNonExistentPostsBatchTest() throws Exception {
+        mockMvc.perform(delete("/posts").param("ids", "1", "120"))
+                .andExpect(status().isNotFound());
+    }
+
     @ParameterizedTest
     @MethodSource("setIdsForExistingUsers")
     void deleteExistingPostsTest(Long id) throws Exception {
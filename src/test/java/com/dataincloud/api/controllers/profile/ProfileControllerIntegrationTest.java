@@ -1,8 +1,12 @@
 package com.dataincloud.api.controllers.profile;
 
 import com.dataincloud.api.Application;
+import com.dataincloud.core.profile.IPhotoStore;
 import com.dataincloud.core.profile.Profile;
+import com.dataincloud.dal.cache.EntityCaches;
 import com.dataincloud.dal.profile.ProfileDocument;
+import com.dataincloud.dal.profile.ProfileMigration;
+import com.dataincloud.dal.profile.ProfileTagMask;
 import com.dataincloud.services.profile.dto.ProfileDto;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,7 +18,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,13 +29,16 @@ import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Stream;
 
 import static com.dataincloud.core.profile.Profile.ProfileTags.*;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.*;
@@ -46,18 +56,29 @@ class ProfileControllerIntegrationTest {
         registry.add("spring.data.mongodb.uri", mongoDb::getReplicaSetUrl);
     }
 
+    private static final byte[] TEST_PHOTO = {0, 0, 1, 0, 2, 0, 3, 0};
+
     @Autowired
     private MongoTemplate mongoTemplate;
+    @Autowired
+    private IPhotoStore photoStore;
+    @Autowired
+    private EntityCaches entityCaches;
+    @Autowired
+    private ProfileMigration profileMigration;
+
+    private String testPhotoId;
 
     @BeforeEach
     void fillDbWithTestData() {
+        testPhotoId = photoStore.save(new ByteArrayInputStream(TEST_PHOTO));
         ProfileDocument testProfile = new ProfileDocumentBuilder()
                 .userId(1L)
-                .photo(new Byte[]{0, 0, 1, 0})
+                .photoId(testPhotoId)
                 .firstName("FirstName1")
                 .lastName("LastName1")
                 .birthDate(LocalDate.of(2002, 3, 18))
-                .tagsList(List.of(EDUCATION))
+                .tags(List.of(EDUCATION))
                 .build();
         mongoTemplate.save(testProfile);
     }
@@ -65,11 +86,12 @@ class ProfileControllerIntegrationTest {
     @AfterEach
     void cleanDb() {
         mongoTemplate.dropCollection("profiles");
+        entityCaches.invalidateAll();
     }
 
     static class ProfileDtoBuilder {
         private Long userId;
-        private Byte[] photo;
+        private byte[] photo;
         private String firstName;
         private String lastName;
         private LocalDate birthDate;
@@ -80,7 +102,7 @@ class ProfileControllerIntegrationTest {
             return this;
         }
 
-        public ProfileDtoBuilder photo(Byte[] photo) {
+        public ProfileDtoBuilder photo(byte[] photo) {
             this.photo = photo;
             return this;
         }
@@ -122,13 +144,19 @@ class ProfileControllerIntegrationTest {
         }
     }
 
+    private void saveTaggedProfiles() {
+        mongoTemplate.save(new ProfileDocumentBuilder().userId(2L).firstName("Blog").tags(List.of(BLOG)).build());
+        mongoTemplate.save(new ProfileDocumentBuilder().userId(3L).firstName("Shop").tags(List.of(SHOP, EDUCATION)).build());
+        mongoTemplate.save(new ProfileDocumentBuilder().userId(4L).firstName("Both").tags(List.of(SHOP, BLOG)).build());
+    }
+
     static class ProfileDocumentBuilder {
         private Long userId;
         private String firstName;
         private String lastName;
-        private Byte[] photo;
+        private String photoId;
         private LocalDate birthDate;
-        private List<Profile.ProfileTags> tagsList;
+        private List<Profile.ProfileTags> tags;
 
         public ProfileDocumentBuilder userId(Long userId) {
             this.userId = userId;
@@ -145,8 +173,8 @@ class ProfileControllerIntegrationTest {
             return this;
         }
 
-        public ProfileDocumentBuilder photo(Byte[] photo) {
-            this.photo = photo;
+        public ProfileDocumentBuilder photoId(String photoId) {
+            this.photoId = photoId;
             return this;
         }
 
@@ -155,8 +183,8 @@ class ProfileControllerIntegrationTest {
             return this;
         }
 
-        public ProfileDocumentBuilder tagsList(List<Profile.ProfileTags> tagsList) {
-            this.tagsList = tagsList;
+        public ProfileDocumentBuilder tags(List<Profile.ProfileTags> tags) {
+            this.tags = tags;
             return this;
         }
 
@@ -165,9 +193,9 @@ class ProfileControllerIntegrationTest {
             profileDocument.setUserId(this.userId);
             profileDocument.setFirstName(this.firstName);
             profileDocument.setLastName(this.lastName);
-            profileDocument.setPhoto(this.photo);
+            profileDocument.setPhotoId(this.photoId);
             profileDocument.setBirthDate(this.birthDate);
-            profileDocument.setTagsList(this.tagsList);
+            profileDocument.setTagsMask(ProfileTagMask.of(this.tags));
             return profileDocument;
         }
     }
@@ -181,7 +209,7 @@ class ProfileControllerIntegrationTest {
     void createValidProfileTest() throws Exception{
         ProfileDto newProfile = new ProfileDtoBuilder()
                 .userId(2L)
-                .photo(new Byte[]{0, 0, 1, 1})
+                .photo(new byte[]{0, 0, 1, 1})
                 .firstName("NewFirstName")
                 .lastName("NewLastName")
                 .birthDate(1999, 7, 11)
@@ -195,6 +223,79 @@ class ProfileControllerIntegrationTest {
         ).andExpect(status().isCreated());
     }
 
+    @Test
+    void createProfileWithMultipartPhotoTest() throws Exception {
+        ProfileDto newProfile = new ProfileDtoBuilder()
+                .userId(2L)
+                .firstName("NewFirstName")
+                .lastName("NewLastName")
+                .birthDate(1999, 7, 11)
+                .tags(List.of(BLOG))
+                .build();
+
+        mockMvc.perform(
+                multipart(HttpMethod.PUT, "/users/profiles")
+                        .file(new MockMultipartFile("profile", "", MediaType.APPLICATION_JSON_VALUE,
+                                objectMapper.writeValueAsBytes(newProfile)))
+                        .file(new MockMultipartFile("photo", "photo.bin", MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                                TEST_PHOTO))
+        ).andExpect(status().isCreated())
+                .andExpect(jsonPath("$.photoId").value(testPhotoId))
+                .andExpect(jsonPath("$.photo").doesNotExist());
+    }
+
+    @Test
+    void updateProfileKeepsPhotoTest() throws Exception {
+        ProfileDto editedProfile = new ProfileDtoBuilder()
+                .userId(1L)
+                .firstName("NewFirstName")
+                .lastName("NewLastName")
+                .birthDate(1999, 7, 11)
+                .tags(List.of(BLOG))
+                .build();
+
+        mockMvc.perform(
+                put("/users/profiles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(editedProfile))
+        ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.photoId").value(testPhotoId));
+    }
+
+    @Test
+    void uploadPhotoTest() throws Exception {
+        byte[] newPhoto = {5, 4, 3, 2, 1};
+
+        mockMvc.perform(
+                put("/users/{userId}/profiles/photo", 1L)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(newPhoto)
+        ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.photoId", not(testPhotoId)));
+
+        mockMvc.perform(get("/users/{userId}/profiles/photo", 1L))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(newPhoto));
+    }
+
+    @Test
+    void uploadTooLargePhotoTest() throws Exception {
+        mockMvc.perform(
+                put("/users/{userId}/profiles/photo", 1L)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[64 * 1024 + 1])
+        ).andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void uploadPhotoForNonExistentProfileTest() throws Exception {
+        mockMvc.perform(
+                put("/users/{userId}/profiles/photo", 2L)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(TEST_PHOTO)
+        ).andExpect(status().isNotFound());
+    }
+
     @ParameterizedTest
     @MethodSource("setInvalidProfiles")
     void createAndUpdateInvalidProfileTest(ProfileDto invalidProfile) throws Exception{
@@ -209,7 +310,7 @@ class ProfileControllerIntegrationTest {
     void updateValidProfileTest() throws Exception{
         ProfileDto newProfile = new ProfileDtoBuilder()
                 .userId(1L)
-                .photo(new Byte[]{0, 0, 1, 1})
+                .photo(new byte[]{0, 0, 1, 1})
                 .firstName("NewFirstName")
                 .lastName("NewLastName")
                 .birthDate(1999, 7, 11)
@@ -228,7 +329,39 @@ class ProfileControllerIntegrationTest {
         mockMvc.perform(get("/users/profiles"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$", not(empty())));
+                .andExpect(jsonPath("$.items", not(empty())));
+    }
+
+    @Test
+    void getProfilesByAnyTagTest() throws Exception {
+        saveTaggedProfiles();
+
+        mockMvc.perform(get("/users/profiles").param("tag", "blog").param("tag", "shop"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].userId", contains(2, 3, 4)));
+    }
+
+    @Test
+    void getProfilesByAllTagsTest() throws Exception {
+        saveTaggedProfiles();
+
+        mockMvc.perform(get("/users/profiles")
+                        .param("tag", "blog")
+                        .param("tag", "shop")
+                        .param("match", "all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].userId", contains(4)))
+                .andExpect(jsonPath("$.items[0].tags", containsInAnyOrder("BLOG", "SHOP")));
+    }
+
+    @Test
+    void getProfilesByTagPagesTest() throws Exception {
+        saveTaggedProfiles();
+
+        mockMvc.perform(get("/users/profiles").param("tag", "blog").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].userId", contains(2)))
+                .andExpect(jsonPath("$.next").isString());
     }
 
     @Test
@@ -241,6 +374,76 @@ class ProfileControllerIntegrationTest {
                 .andExpect(jsonPath("$.userId").value(userId));
     }
 
+    @Test
+    void getPhotoTest() throws Exception {
+        mockMvc.perform(get("/users/{userId}/profiles/photo", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + testPhotoId + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().bytes(TEST_PHOTO));
+    }
+
+    @Test
+    void getVersionedPhotoIsImmutableTest() throws Exception {
+        mockMvc.perform(get("/users/{userId}/profiles/photo", 1L).param("v", testPhotoId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+
+    @Test
+    void getNotModifiedPhotoTest() throws Exception {
+        mockMvc.perform(get("/users/{userId}/profiles/photo", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + testPhotoId + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getPhotoRangeTest() throws Exception {
+        mockMvc.perform(get("/users/{userId}/profiles/photo", 1L)
+                        .header(HttpHeaders.RANGE, "bytes=2-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(new byte[]{1, 0}));
+    }
+
+    @Test
+    void getFullUserTest() throws Exception {
+        String createdUser = mockMvc.perform(
+                        post("/users")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"username\": \"full_user\", \"birthDate\": \"2002-03-18\"}")
+                )
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long userId = objectMapper.readTree(createdUser).get("id").asLong();
+        mongoTemplate.save(new ProfileDocumentBuilder().userId(userId).firstName("Full").tags(List.of(BLOG)).build());
+
+        mockMvc.perform(get("/users/{id}/full", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.username").value("full_user"))
+                .andExpect(jsonPath("$.profile.firstName").value("Full"))
+                .andExpect(jsonPath("$.unavailable", empty()));
+    }
+
+    @Test
+    void migrationConvertsTagsListTest() throws Exception {
+        mongoTemplate.getCollection("profiles").insertOne(new Document("_id", 7L)
+                .append("firstName", "Legacy")
+                .append("tagsList", List.of("BLOG", "SHOP", "RETIRED")));
+
+        profileMigration.afterPropertiesSet();
+        profileMigration.afterPropertiesSet();
+
+        Document migrated = mongoTemplate.getCollection("profiles").find(new Document("_id", 7L)).first();
+        assertThat(migrated)
+                .containsEntry("tagsMask", ProfileTagMask.of(List.of(BLOG, SHOP)))
+                .doesNotContainKey("tagsList");
+        assertThat(mongoTemplate.indexOps("profiles").getIndexInfo())
+                .anyMatch(index -> index.getName().equals("profiles_tags_mask_idx"));
+        mockMvc.perform(get("/users/{userId}/profiles", 7L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags", contains("BLOG", "SHOP")));
+    }
+
     @Test
     void getProfileByNonExistentIdTest() throws Exception {
         Long userId = 2L;
@@ -272,7 +475,7 @@ class ProfileControllerIntegrationTest {
                 Arguments.of(
                         new ProfileDtoBuilder()
                                 .userId(51L)
-                                .photo(new Byte[]{0, 1})
+                                .photo(new byte[]{0, 1})
                                 .firstName("firstName")
                                 .lastName("lastName")
                                 .birthDate(2000, 1, 27)
@@ -282,7 +485,7 @@ class ProfileControllerIntegrationTest {
                 Arguments.of(
                         new ProfileDtoBuilder()
                                 .userId(2L)
-                                .photo(new Byte[]{})
+                                .photo(new byte[]{})
                                 .firstName("firstName")
                                 .lastName("lastName")
                                 .birthDate(2000, 1, 27)
@@ -292,7 +495,7 @@ class ProfileControllerIntegrationTest {
                 Arguments.of(
                         new ProfileDtoBuilder()
                                 .userId(2L)
-                                .photo(new Byte[]{0, 1})
+                                .photo(new byte[]{0, 1})
                                 .firstName("  ")
                                 .lastName("lastName")
                                 .birthDate(2000, 1, 27)
@@ -302,7 +505,7 @@ class ProfileControllerIntegrationTest {
                 Arguments.of(
                         new ProfileDtoBuilder()
                                 .userId(2L)
-                                .photo(new Byte[]{0, 1})
+                                .photo(new byte[]{0, 1})
                                 .firstName("firstName")
                                 .lastName(" ")
                                 .birthDate(2000, 1, 27)
@@ -312,7 +515,7 @@ class ProfileControllerIntegrationTest {
                 Arguments.of(
                         new ProfileDtoBuilder()
                                 .userId(2L)
-                                .photo(new Byte[]{0, 1})
+                                .photo(new byte[]{0, 1})
                                 .firstName("firstName")
                                 .lastName(" ")
                                 .birthDate(2030, 1, 27)
@@ -322,7 +525,7 @@ class ProfileControllerIntegrationTest {
                 Arguments.of(
                         new ProfileDtoBuilder()
                                 .userId(2L)
-                                .photo(new Byte[]{0, 1})
+                                .photo(new byte[]{0, 1})
                                 .firstName("firstName")
                                 .lastName(" ")
                                 .birthDate(2000, 1, 27)
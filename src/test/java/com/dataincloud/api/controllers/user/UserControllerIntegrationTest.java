@@ -3,6 +3,7 @@ package com.dataincloud.api.controllers.user;
 import com.dataincloud.api.Application;
 import com.dataincloud.services.user.dto.UserCreateDto;
 import com.dataincloud.services.user.dto.UserDto;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -15,9 +16,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Calendar;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -115,6 +120,285 @@ public class UserControllerIntegrationTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
     }
 
+    @Test
+    void getUsersPageTest() throws Exception {
+        createUsers(3);
+
+        mockMvc.perform(
+                get("/users").param("size", "2")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.next").isNotEmpty());
+    }
+
+    @Test
+    void getUsersNextPageTest() throws Exception {
+        createUsers(3);
+
+        JsonNode firstPage = objectMapper.readTree(
+                mockMvc.perform(get("/users").param("size", "2"))
+                        .andReturn().getResponse().getContentAsString()
+        );
+        long lastId = firstPage.get("items").get(1).get("id").asLong();
+
+        mockMvc.perform(
+                get("/users").param("size", "2").param("cursor", firstPage.get("next").asText())
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id", greaterThan((int) lastId)));
+    }
+
+    @Test
+    void getUsersPageWithInvalidCursorTest() throws Exception {
+        mockMvc.perform(
+                get("/users").param("cursor", "not a cursor")
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getUserPostsTest() throws Exception {
+        UserCreateDto newUser = new UserCreateDtoBuilder()
+                .username("author")
+                .birthDate(2003, Calendar.NOVEMBER, 27)
+                .build();
+        UserDto author = objectMapper.readValue(
+                mockMvc.perform(
+                        post("/users")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(newUser))
+                        )
+                        .andReturn().getResponse().getContentAsString(),
+                UserDto.class
+        );
+        String posts = Stream.of("first", "second", "third")
+                .map(header -> "{\"header\": \"" + header + " post\", \"userId\": " + author.getId() + "}\n")
+                .collect(Collectors.joining());
+        mockMvc.perform(
+                post("/posts/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(posts)
+        );
+
+        mockMvc.perform(get("/users/{id}", author.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.postCount").value(3))
+                .andExpect(jsonPath("$.recentPosts[0].header").value("third post"));
+
+        mockMvc.perform(get("/users/{id}/posts", author.getId()).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].header").value("third post"))
+                .andExpect(jsonPath("$.next").isNotEmpty());
+    }
+
+    @Test
+    void getNonExistentUserPostsTest() throws Exception {
+        mockMvc.perform(get("/users/{id}/posts", 60L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void createUsersBatchTest() throws Exception {
+        List<UserCreateDto> newUsers = List.of(
+                new UserCreateDtoBuilder().username("batch_user_1").birthDate(2003, Calendar.NOVEMBER, 27).build(),
+                new UserCreateDtoBuilder().username("batch_user_2").birthDate(2001, Calendar.MARCH, 2).build()
+        );
+
+        mockMvc.perform(
+                post("/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newUsers))
+                )
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[1].username").value("batch_user_2"));
+    }
+
+    @Test
+    void createInvalidUsersBatchTest() throws Exception {
+        List<UserCreateDto> newUsers = List.of(
+                new UserCreateDtoBuilder().username("batch_user_3").birthDate(2003, Calendar.NOVEMBER, 27).build(),
+                new UserCreateDtoBuilder().username("").birthDate(2003, Calendar.NOVEMBER, 27).build()
+        );
+
+        mockMvc.perform(
+                post("/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newUsers))
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importUsersFromCsvTest() throws Exception {
+        String csv = """
+                username,birthDate
+                imported_user_1,1990-05-15
+                "imported, user 2",1985-09-28
+                ,1978-12-03
+                """;
+
+        mockMvc.perform(
+                post("/users/import")
+                        .contentType("text/csv")
+                        .content(csv)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(4));
+    }
+
+    @Test
+    void importUsersFromCsvResumesAfterMalformedRecordTest() throws Exception {
+        String csv = """
+                username,birthDate
+                "broken" quote,1990-05-15
+                too,many,columns
+                resumed_user_1,1990-05-15
+                resumed_user_2,1985-09-28
+                """;
+
+        mockMvc.perform(
+                post("/users/import")
+                        .contentType("text/csv")
+                        .content(csv)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[1].line").value(3));
+    }
+
+    @Test
+    void importUsersFromCsvUpdatesUsernameSearchTest() throws Exception {
+        String csv = """
+                username,birthDate
+                csv_search_user_b,1990-05-15
+                csv_search_user_a,1985-09-28
+                """;
+
+        mockMvc.perform(
+                post("/users/import")
+                        .contentType("text/csv")
+                        .content(csv)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+
+        mockMvc.perform(get("/users/search").param("prefix", "csv_search_"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].username").value("csv_search_user_a"));
+    }
+
+    @Test
+    void importPostsFromCsvWithLineBreaksTest() throws Exception {
+        UserCreateDto newUser = new UserCreateDtoBuilder()
+                .username("csv_author")
+                .birthDate(2003, Calendar.NOVEMBER, 27)
+                .build();
+        UserDto author = objectMapper.readValue(
+                mockMvc.perform(
+                        post("/users")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(newUser))
+                        )
+                        .andReturn().getResponse().getContentAsString(),
+                UserDto.class
+        );
+        String csv = "header,description,userId\n"
+                + "\"multi-line post\",\"first line\nsecond, \"\"quoted\"\" line\"," + author.getId() + "\n"
+                + "missing columns," + author.getId() + "\n";
+
+        mockMvc.perform(
+                post("/posts/import")
+                        .contentType("text/csv")
+                        .content(csv)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+
+        mockMvc.perform(get("/users/{id}/posts", author.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].header").value("multi-line post"))
+                .andExpect(jsonPath("$.items[0].description").value("first line\nsecond, \"quoted\" line"));
+    }
+
+    @Test
+    void importUsersFromNdjsonTest() throws Exception {
+        String ndjson = """
+                {"username": "imported_user_3", "birthDate": "1990-05-15"}
+                {"username": "imported_user_4"}
+                """;
+
+        mockMvc.perform(
+                post("/users/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].errors.birthDate").exists());
+    }
+
+    @Test
+    void searchUsersByPrefixTest() throws Exception {
+        List<UserCreateDto> newUsers = List.of(
+                new UserCreateDtoBuilder().username("autocomplete_beta").birthDate(2003, Calendar.NOVEMBER, 27).build(),
+                new UserCreateDtoBuilder().username("autocomplete_alpha").birthDate(2001, Calendar.MARCH, 2).build(),
+                new UserCreateDtoBuilder().username("autocompletion").birthDate(2001, Calendar.MARCH, 2).build()
+        );
+        mockMvc.perform(
+                post("/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newUsers))
+        );
+
+        mockMvc.perform(get("/users/search").param("prefix", "autocomplete_"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].username").value("autocomplete_alpha"))
+                .andExpect(jsonPath("$[1].username").value("autocomplete_beta"));
+        mockMvc.perform(get("/users/search").param("prefix", "autocomplet").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void searchUsersWithBlankPrefixTest() throws Exception {
+        mockMvc.perform(get("/users/search").param("prefix", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getUserByUsernameTest() throws Exception {
+        UserCreateDto newUser = new UserCreateDtoBuilder()
+                .username("lookup_user")
+                .birthDate(2003, Calendar.NOVEMBER, 27)
+                .build();
+        String created = mockMvc.perform(
+                        post("/users")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(newUser))
+                )
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(get("/users/by-username/{username}", "lookup_user"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id));
+        mockMvc.perform(get("/users/by-username/{username}", "lookup_use"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void updateUserTest() throws Exception {
         UserDto editedUser = new UserDto();
@@ -147,6 +431,21 @@ public class UserControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    private void createUsers(int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            UserCreateDto newUser = new UserCreateDtoBuilder()
+                    .username("page_user_" + i)
+                    .birthDate(2003, Calendar.NOVEMBER, 27)
+                    .build();
+
+            mockMvc.perform(
+                    post("/users")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(newUser))
+            );
+        }
+    }
+
     static Stream<Arguments> setInvalidUsers() {
         return Stream.of(
                 Arguments.of(new UserCreateDtoBuilder().username(null).birthDate(2003, Calendar.NOVEMBER, 27).build()),
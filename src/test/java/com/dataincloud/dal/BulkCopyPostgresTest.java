@@ -0,0 +1,87 @@
+package com.dataincloud.dal;
+
+import com.dataincloud.api.configuration.BasicConfiguration;
+import com.dataincloud.api.configuration.RepositoryJpaConfiguration;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.user.User;
+import com.dataincloud.dal.post.PostRepository;
+import com.dataincloud.dal.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {BasicConfiguration.class, RepositoryJpaConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkCopyPostgresTest {
+    private static final int ROWS = 12_345;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.2");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", postgres::getDriverClassName);
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Timeout(value = 60, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void copyUsersAndPosts() {
+        long copiedUsers = userRepository.copyFrom(IntStream.range(0, ROWS).mapToObj(i -> {
+            User user = new User();
+            user.setUsername("copied_user_" + i);
+            user.setBirthDate(Calendar.getInstance());
+            return user;
+        }));
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+
+        User author = new User();
+        author.setId(userIds.get(0));
+        long copiedPosts = postRepository.copyFrom(IntStream.range(0, ROWS).mapToObj(i -> {
+            Post post = new Post();
+            post.setHeader("Header " + i);
+            post.setDescription("Description " + i);
+            post.setCreatedDate(Calendar.getInstance());
+            post.setUser(author);
+            return post;
+        }));
+        List<Long> postIds = jdbcTemplate.queryForList("SELECT id FROM posts ORDER BY id", Long.class);
+
+        assertThat(copiedUsers).isEqualTo(ROWS);
+        assertThat(userIds).hasSize(ROWS);
+        assertThat(userIds.get(ROWS - 1) - userIds.get(0)).isEqualTo(ROWS - 1);
+        assertThat(copiedPosts).isEqualTo(ROWS);
+        assertThat(postIds).hasSize(ROWS);
+        assertThat(postIds.get(ROWS - 1) - postIds.get(0)).isEqualTo(ROWS - 1);
+        assertThat(userRepository.readById(author.getId()).getPostCount()).isEqualTo(ROWS);
+    }
+}
@@ -0,0 +1,72 @@
+package com.dataincloud.dal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Expected plans for {@link QueryPlanTest}, kept in {@code src/test/resources/query-plans.json}: per statement, the
+ * plan nodes in pre-order and the planner's total cost. A statement without an entry fails; running with
+ * {@code UPDATE_QUERY_PLANS=true} records every statement into the file instead, to be committed.
+ */
+class QueryPlanBaseline {
+    private static final Path FILE = Path.of("src/test/resources/query-plans.json");
+    private static final double COST_TOLERANCE_PERCENT = 25;
+    private static final boolean UPDATE = Boolean.parseBoolean(System.getenv("UPDATE_QUERY_PLANS"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, Plan> plans;
+
+    record Plan(List<String> nodes, double cost) {
+    }
+
+    QueryPlanBaseline() {
+        try {
+            plans = Files.exists(FILE)
+                    ? objectMapper.readValue(FILE.toFile(), new TypeReference<TreeMap<String, Plan>>() {})
+                    : new TreeMap<>();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Fails when the nodes differ from the recorded ones, or the cost is off by more than the tolerance either way: a
+     * much cheaper plan means the baseline is stale as much as a dearer one means a regression.
+     */
+    synchronized void check(String statement, Plan actual) {
+        if (UPDATE) {
+            plans.put(statement, actual);
+            save();
+            return;
+        }
+        Plan expected = plans.get(statement);
+        assertThat(expected)
+                .as("recorded plan of %s; record it with UPDATE_QUERY_PLANS=true", statement)
+                .isNotNull();
+        assertThat(actual.nodes())
+                .as("plan nodes of %s", statement)
+                .containsExactlyElementsOf(expected.nodes());
+        assertThat(actual.cost())
+                .as("total cost of %s", statement)
+                .isCloseTo(expected.cost(), withinPercentage(COST_TOLERANCE_PERCENT));
+    }
+
+    private void save() {
+        try {
+            objectMapper.writeValue(FILE.toFile(), plans);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.dataincloud.dal;
+
+import com.dataincloud.api.configuration.BasicConfiguration;
+import com.dataincloud.api.configuration.RepositoryJpaConfiguration;
+import com.dataincloud.dal.post.PostRepository;
+import com.dataincloud.dal.user.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs EXPLAIN on the SQL that the repositories actually send, against PostgreSQL seeded with enough rows for the
+ * planner to prefer indexes, and fails when a selective query falls back to a sequential scan. Every plan is also held
+ * against the recorded {@link QueryPlanBaseline}, so a changed plan or a cost drifting beyond the tolerance fails too.
+ */
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.dataincloud.dal.QueryPlanTest$RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {BasicConfiguration.class, RepositoryJpaConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanTest {
+    private static final int SEEDED_USERS = 5_000;
+    private static final int POSTS_PER_USER = 20;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.2");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", postgres::getDriverClassName);
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+        private static final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        static List<String> drain() {
+            synchronized (statements) {
+                List<String> drained = List.copyOf(statements);
+                statements.clear();
+                return drained;
+            }
+        }
+    }
+
+    private static boolean seeded;
+    private static final QueryPlanBaseline baseline = new QueryPlanBaseline();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PostRepository postRepository;
+
+    private long userId;
+    private long postId;
+    private String testName;
+    private int explained;
+
+    @BeforeEach
+    void seed(TestInfo testInfo) {
+        if (!seeded) {
+            jdbcTemplate.update("""
+                    INSERT INTO users (username, birth_date)
+                    SELECT 'plan_user_' || g, DATE '1970-01-01' + g % 15000 FROM generate_series(1, ?) g
+                    """, SEEDED_USERS);
+            jdbcTemplate.update("""
+                    INSERT INTO posts (header, description, created_date, user_id)
+                    SELECT 'header ' || g, 'description ' || g, TIMESTAMP '2020-01-01' + g * INTERVAL '1 minute', u.id
+                    FROM users u CROSS JOIN generate_series(1, ?) g
+                    """, POSTS_PER_USER);
+            jdbcTemplate.execute("ANALYZE users");
+            jdbcTemplate.execute("ANALYZE posts");
+            seeded = true;
+        }
+        userId = jdbcTemplate.queryForObject("SELECT max(id) FROM users", Long.class);
+        postId = jdbcTemplate.queryForObject("SELECT max(id) FROM posts", Long.class);
+        RecordingStatementInspector.drain();
+        testName = testInfo.getTestMethod().orElseThrow().getName();
+        explained = 0;
+    }
+
+    @Test
+    void readUserByIdUsesIndexes() {
+        userRepository.readById(userId);
+
+        assertNoSequentialScan(RecordingStatementInspector.drain(), userId);
+    }
+
+    @Test
+    void userExistsUsesPrimaryKey() {
+        userRepository.exists(userId);
+
+        assertNoSequentialScan(RecordingStatementInspector.drain(), userId);
+    }
+
+    @Test
+    void readUsersPageUsesPrimaryKey() {
+        userRepository.readPage(userId / 2, 21);
+
+        assertNoSequentialScan(RecordingStatementInspector.drain(), userId / 2, 21);
+    }
+
+    @Test
+    void usernamePrefixSearchUsesUsernameIndex() {
+        userRepository.readByUsernamePrefix("plan_user_12", 21);
+
+        assertNoSequentialScan(RecordingStatementInspector.drain(), "'plan_user_12%'", 21);
+    }
+
+    @Test
+    void shortUsernamePrefixIsReadInIndexOrder() {
+        userRepository.readByUsernamePrefix("plan", 21);
+
+        for (String sql : RecordingStatementInspector.drain())
+            assertThat(explain(toPositional(sql), "'plan%'", 21))
+                    .as(sql)
+                    .doesNotContain("Sort")
+                    .contains("users_username_id_idx");
+    }
+
+    @Test
+    void usernameLookupUsesUsernameIndex() {
+        userRepository.readByUsername("plan_user_12");
+
+        assertNoSequentialScan(RecordingStatementInspector.drain(), "'plan_user_12'", 1);
+    }
+
+    @Test
+    void readPostByIdUsesPrimaryKey() {
+        postRepository.readById(postId);
+
+        assertNoSequentialScan(RecordingStatementInspector.drain(), postId);
+    }
+
+    @Test
+    void readPostsPageUsesPrimaryKey() {
+        postRepository.readPage(postId / 2, 21);
+
+        assertNoSequentialScan(RecordingStatementInspector.drain(), postId / 2, 21);
+    }
+
+    @Test
+    void foreignKeyCheckOnUserDeleteUsesIndex() {
+        String plan = explain("SELECT 1 FROM posts WHERE user_id = $1", userId);
+
+        assertThat(plan).doesNotContain("Seq Scan").contains("posts_user_id_id_idx");
+    }
+
+    @Test
+    void readUserPostsPageUsesUserIndex() {
+        long authorId = jdbcTemplate.queryForObject("SELECT user_id FROM posts WHERE id = ?", Long.class, postId);
+
+        userRepository.readPosts(authorId, postId, 21);
+
+        assertNoSequentialScan(RecordingStatementInspector.drain(), authorId, postId, 21);
+    }
+
+    @Test
+    void fullTextSearchUsesGinIndex() {
+        String plan = explain("""
+                SELECT p.id FROM posts p, websearch_to_tsquery('english', $1) AS q(query)
+                WHERE p.search_vector @@ q.query
+                """, "'header 7'");
+
+        assertThat(plan).doesNotContain("Seq Scan on posts").contains("posts_search_vector_idx");
+    }
+
+    @Test
+    void readAllPostsAvoidsNestedLoop() {
+        postRepository.readAll();
+
+        for (String sql : RecordingStatementInspector.drain())
+            assertThat(explain(toPositional(sql))).doesNotContain("Nested Loop");
+    }
+
+    private void assertNoSequentialScan(List<String> statements, Object... parameters) {
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements)
+            assertThat(explain(toPositional(sql), parameters))
+                    .as(sql)
+                    .doesNotContain("Seq Scan");
+    }
+
+    /**
+     * Plans the statement with the given parameter values through PREPARE/EXPLAIN EXECUTE, so the planner sees the
+     * same values a custom plan would get at run time, checks it against the baseline and returns its nodes, one per
+     * line as in the text format.
+     */
+    private String explain(String sql, Object... parameters) {
+        JsonNode plan = jdbcTemplate.execute((ConnectionCallback<JsonNode>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PREPARE plan_check AS " + sql);
+                try {
+                    StringJoiner arguments = new StringJoiner(", ", "(", ")");
+                    for (Object parameter : parameters)
+                        arguments.add(parameter.toString());
+                    String execute = parameters.length == 0 ? "plan_check" : "plan_check" + arguments;
+
+                    try (ResultSet result = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE " + execute)) {
+                        result.next();
+                        return objectMapper.readTree(result.getString(1)).get(0).get("Plan");
+                    } catch (JsonProcessingException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                } finally {
+                    statement.execute("DEALLOCATE plan_check");
+                }
+            }
+        });
+
+        List<String> nodes = new ArrayList<>();
+        collectNodes(plan, nodes);
+        baseline.check(testName + "[" + explained++ + "]",
+                new QueryPlanBaseline.Plan(nodes, plan.get("Total Cost").asDouble()));
+        return String.join("\n", nodes);
+    }
+
+    private static void collectNodes(JsonNode plan, List<String> nodes) {
+        StringBuilder node = new StringBuilder(plan.get("Node Type").asText());
+        if (plan.has("Index Name"))
+            node.append(" using ").append(plan.get("Index Name").asText());
+        if (plan.has("Relation Name"))
+            node.append(" on ").append(plan.get("Relation Name").asText());
+        nodes.add(node.toString());
+        for (JsonNode child : plan.path("Plans"))
+            collectNodes(child, nodes);
+    }
+
+    private static String toPositional(String sql) {
+        StringBuilder positional = new StringBuilder(sql.length());
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?')
+                positional.append('$').append(++parameter);
+            else
+                positional.append(c);
+        }
+        return positional.toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.dataincloud.dal.cache;
+
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.post.IPostRepository;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.user.IUserRepository;
+import com.dataincloud.core.user.User;
+import com.dataincloud.dal.routing.ReadYourWrites;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingRepositoryTest {
+    @Mock
+    private IUserRepository userRepository;
+    @Mock
+    private IPostRepository postRepository;
+
+    private EntityCaches caches;
+    private CachingUserRepository cachingUserRepository;
+    private CachingPostRepository cachingPostRepository;
+
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        caches = new EntityCaches(1024 * 1024, Duration.ofMinutes(1));
+        cachingUserRepository = new CachingUserRepository(userRepository, caches);
+        cachingPostRepository = new CachingPostRepository(postRepository, caches);
+
+        author = new User();
+        author.setId(1L);
+        author.setUsername("author");
+        post = new Post();
+        post.setId(10L);
+        post.setHeader("header");
+        post.setUser(author);
+        author.setRecentPosts(List.of(post));
+    }
+
+    @Test
+    void readByIdHitsRepositoryOnce() {
+        when(postRepository.readById(10L)).thenReturn(post);
+
+        cachingPostRepository.readById(10L);
+        Post cachedPost = cachingPostRepository.readById(10L);
+
+        assertThat(cachedPost).isSameAs(post);
+        verify(postRepository, times(1)).readById(10L);
+    }
+
+    @Test
+    void cacheMissLoadsFromPrimary() {
+        boolean[] pinned = new boolean[1];
+        when(userRepository.readById(1L)).thenAnswer(invocation -> {
+            pinned[0] = ReadYourWrites.isPinnedToPrimary();
+            return author;
+        });
+
+        cachingUserRepository.readById(1L);
+
+        assertThat(pinned[0]).isTrue();
+        assertThat(ReadYourWrites.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void missingEntityIsNotCached() {
+        when(userRepository.readById(2L)).thenThrow(new ResourceNotFoundException("User not found"));
+
+        assertThatThrownBy(() -> cachingUserRepository.readById(2L)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> cachingUserRepository.readById(2L)).isInstanceOf(ResourceNotFoundException.class);
+        verify(userRepository, times(2)).readById(2L);
+    }
+
+    @Test
+    void deletingUserEvictsAuthorsPosts() {
+        when(userRepository.readById(1L)).thenReturn(author);
+        when(postRepository.readById(10L)).thenReturn(post);
+        when(userRepository.delete(1L)).thenReturn(author);
+        cachingUserRepository.readById(1L);
+        cachingPostRepository.readById(10L);
+
+        cachingUserRepository.delete(1L);
+
+        assertThat(caches.users().getIfPresent(1L)).isNull();
+        assertThat(caches.posts().getIfPresent(10L)).isNull();
+    }
+
+    @Test
+    void updatingPostEvictsPostAndAuthor() {
+        when(userRepository.readById(1L)).thenReturn(author);
+        when(postRepository.readById(10L)).thenReturn(post);
+        when(postRepository.update(post)).thenReturn(post);
+        cachingUserRepository.readById(1L);
+        cachingPostRepository.readById(10L);
+
+        cachingPostRepository.update(post);
+
+        assertThat(caches.users().getIfPresent(1L)).isNull();
+        assertThat(caches.posts().getIfPresent(10L)).isNull();
+    }
+}
@@ -0,0 +1,210 @@
+package com.dataincloud.dal.memory;
+
+import com.dataincloud.core.UpsertResult;
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.core.user.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.dataincloud.core.profile.Profile.ProfileTags.*;
+import static org.assertj.core.api.Assertions.*;
+
+class MemoryRepositoryTest {
+    private MemoryStore store;
+    private InMemoryUserRepository userRepository;
+    private InMemoryPostRepository postRepository;
+    private InMemoryProfileRepository profileRepository;
+
+    @BeforeEach
+    void setUp() {
+        store = new MemoryStore();
+        userRepository = new InMemoryUserRepository(store);
+        postRepository = new InMemoryPostRepository(store);
+        profileRepository = new InMemoryProfileRepository(store);
+    }
+
+    @Test
+    void createAssignsIdsAndPagesInIdOrder() {
+        List<User> created = userRepository.createAll(List.of(user("alpha"), user("beta"), user("gamma")));
+
+        assertThat(created).extracting(User::getId).containsExactly(1L, 2L, 3L);
+        assertThat(userRepository.readPage(1L, 10)).extracting(User::getUsername).containsExactly("beta", "gamma");
+        assertThat(userRepository.readPage(null, 2)).extracting(User::getId).containsExactly(1L, 2L);
+        assertThat(userRepository.exists(3L)).isTrue();
+        assertThat(userRepository.exists(4L)).isFalse();
+    }
+
+    @Test
+    void readByIdAttachesNewestPosts() {
+        User author = userRepository.create(user("author"));
+        for (int i = 0; i < 12; i++)
+            postRepository.create(post("Header " + i, author));
+
+        User found = userRepository.readById(author.getId());
+
+        assertThat(found.getPostCount()).isEqualTo(12);
+        assertThat(found.getRecentPosts()).hasSize(10);
+        assertThat(found.getRecentPosts().get(0).getHeader()).isEqualTo("Header 11");
+        assertThat(found.getRecentPosts().get(0).getUser()).isNull();
+        assertThat(userRepository.readPosts(author.getId(), 3L, 10))
+                .extracting(Post::getId)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void postsCarryTheirAuthor() {
+        User author = userRepository.create(user("author"));
+        Post created = postRepository.create(post("Header", author));
+
+        assertThat(postRepository.readById(created.getId()).getUser().getUsername()).isEqualTo("author");
+        assertThatThrownBy(() -> postRepository.create(post("Header", userWithId(42L))))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void deletingUserRemovesPosts() {
+        User author = userRepository.create(user("author"));
+        Post created = postRepository.create(post("Header", author));
+
+        userRepository.delete(author.getId());
+
+        assertThatThrownBy(() -> postRepository.readById(created.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> userRepository.readByUsername("author"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void returnedEntitiesAreCopies() {
+        User created = userRepository.create(user("author"));
+        created.setUsername("changed");
+
+        assertThat(userRepository.readById(created.getId()).getUsername()).isEqualTo("author");
+    }
+
+    @Test
+    void usernameLookupsFollowUpdates() {
+        User created = userRepository.create(user("romulus"));
+        created.setUsername("remus");
+        userRepository.update(created);
+
+        assertThat(userRepository.readByUsernamePrefix("rom", 10)).isEmpty();
+        assertThat(userRepository.readByUsername("remus").getId()).isEqualTo(created.getId());
+    }
+
+    @Test
+    void profilesFilterByTags() {
+        profileRepository.create(profile(1L, List.of(EDUCATION)));
+        profileRepository.create(profile(2L, List.of(BLOG, SHOP)));
+        profileRepository.create(profile(3L, List.of(SHOP, EDUCATION)));
+
+        assertThat(profileRepository.readPageByTags(Set.of(SHOP), Profile.TagMatch.ANY, null, 10))
+                .extracting(Profile::getUserId)
+                .containsExactly(2L, 3L);
+        assertThat(profileRepository.readPageByTags(Set.of(SHOP, EDUCATION), Profile.TagMatch.ALL, null, 10))
+                .extracting(Profile::getUserId)
+                .containsExactly(3L);
+        assertThat(profileRepository.readById(3L).getTags()).containsExactly(EDUCATION, SHOP);
+    }
+
+    @Test
+    void upsertKeepsStoredPhoto() {
+        Profile first = profile(1L, List.of(BLOG));
+        first.setPhotoId("photo");
+        assertThat(profileRepository.upsert(first).isCreated()).isTrue();
+
+        UpsertResult<Profile> second = profileRepository.upsert(profile(1L, List.of(SHOP)));
+
+        assertThat(second.isCreated()).isFalse();
+        assertThat(second.getValue().getPhotoId()).isEqualTo("photo");
+        assertThat(second.getValue().getTags()).containsExactly(SHOP);
+    }
+
+    @Test
+    void streamAllVisitsEveryPost() {
+        User author = userRepository.create(user("author"));
+        postRepository.copyFrom(Stream.generate(() -> post("Header", author)).limit(2500));
+
+        List<Long> ids = new ArrayList<>();
+        postRepository.streamAll(post -> ids.add(post.getId()));
+
+        assertThat(ids).hasSize(2500).isSorted();
+    }
+
+    @Test
+    void copyFromStoresSizedStreams() {
+        List<User> users = List.of(user("alpha"), user("beta"));
+
+        assertThat(userRepository.copyFrom(users.stream())).isEqualTo(2);
+        User author = userRepository.readByUsername("alpha");
+        assertThat(postRepository.copyFrom(List.of(post("First", author), post("Second", author)).stream()))
+                .isEqualTo(2);
+
+        assertThat(userRepository.readAll()).extracting(User::getUsername).containsExactly("alpha", "beta");
+        assertThat(postRepository.readAll()).extracting(Post::getHeader).containsExactly("First", "Second");
+    }
+
+    @Test
+    void snapshotRoundTrip(@TempDir Path directory) throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        User author = userRepository.create(user("author"));
+        postRepository.create(post("Header", author));
+        profileRepository.create(profile(author.getId(), List.of(BLOG)));
+        Path file = directory.resolve("snapshot.json");
+
+        store.save(file, objectMapper);
+        MemoryStore restored = new MemoryStore();
+        restored.load(file, objectMapper);
+
+        InMemoryUserRepository restoredUsers = new InMemoryUserRepository(restored);
+        User found = restoredUsers.readById(author.getId());
+        assertThat(found.getUsername()).isEqualTo("author");
+        assertThat(found.getRecentPosts()).extracting(Post::getHeader).containsExactly("Header");
+        assertThat(new InMemoryProfileRepository(restored).readById(author.getId()).getTags()).containsExactly(BLOG);
+        assertThat(restoredUsers.create(user("next")).getId()).isEqualTo(author.getId() + 1);
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setBirthDate(Calendar.getInstance());
+        return user;
+    }
+
+    private static User userWithId(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static Post post(String header, User author) {
+        Post post = new Post();
+        post.setHeader(header);
+        post.setDescription("Description");
+        post.setUser(userWithId(author.getId()));
+        return post;
+    }
+
+    private static Profile profile(Long userId, List<Profile.ProfileTags> tags) {
+        Profile profile = new Profile();
+        profile.setUserId(userId);
+        profile.setFirstName("First");
+        profile.setLastName("Last");
+        profile.setBirthDate(LocalDate.of(2000, 1, 1));
+        profile.setTags(tags);
+        return profile;
+    }
+}
@@ -0,0 +1,82 @@
+package com.dataincloud.dal.post;
+
+import com.dataincloud.core.post.Post;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FilePostWriteLogTest {
+    private static final int SEGMENT_SIZE = 256;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    @TempDir
+    private Path directory;
+
+    @Test
+    void deletesSegmentsOnceCommitted() throws IOException {
+        List<Post> posts = new ArrayList<>();
+        try (FilePostWriteLog writeLog = writeLog()) {
+            for (long id = 1; id <= 20; id++) {
+                Post post = post(id);
+                writeLog.append(post);
+                posts.add(post);
+            }
+            List<Path> written = segments();
+            assertThat(written).hasSizeGreaterThan(2);
+
+            writeLog.committed(posts.subList(0, 19));
+
+            assertThat(segments()).containsExactly(written.get(written.size() - 1));
+        }
+    }
+
+    @Test
+    void recoversUncommittedPostsFromEverySegment() throws IOException {
+        try (FilePostWriteLog writeLog = writeLog()) {
+            List<Post> posts = new ArrayList<>();
+            for (long id = 1; id <= 20; id++) {
+                Post post = post(id);
+                writeLog.append(post);
+                posts.add(post);
+            }
+            writeLog.committed(posts.subList(5, 15));
+        }
+
+        try (FilePostWriteLog writeLog = writeLog()) {
+            List<Post> recovered = writeLog.recover();
+
+            assertThat(recovered).extracting(Post::getId)
+                    .containsExactly(1L, 2L, 3L, 4L, 5L, 16L, 17L, 18L, 19L, 20L);
+            writeLog.committed(recovered);
+            assertThat(segments()).isEmpty();
+        }
+    }
+
+    private FilePostWriteLog writeLog() {
+        return new FilePostWriteLog(directory.resolve("posts.wal"), objectMapper, false, SEGMENT_SIZE);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static Post post(long id) {
+        Post post = new Post();
+        post.setId(id);
+        post.setHeader("Header");
+        post.setDescription("Description");
+        return post;
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ContextConfiguration;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 
@@ -67,6 +68,18 @@ class PostRepositoryTest {
                 .contains(createdPost);
     }
 
+    @Test
+    void streamAllPosts() {
+        Post createdPost = postRepository.create(testingPost);
+        List<Post> posts = new ArrayList<>();
+
+        postRepository.streamAll(posts::add);
+
+        assertThat(posts)
+                .extracting(Post::getId)
+                .contains(createdPost.getId());
+    }
+
     @Test
     void readExistingPostById() {
         Post createdPost = postRepository.create(testingPost);
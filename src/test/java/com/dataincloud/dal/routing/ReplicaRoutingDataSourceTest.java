@@ -0,0 +1,108 @@
+package com.dataincloud.dal.routing;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReplicaRoutingDataSourceTest {
+    private ReplicaRoutingDataSource routing;
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE IF NOT EXISTS node AS SELECT '" + name + "' AS name");
+        return dataSource;
+    }
+
+    private String node(boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        routing = new ReplicaRoutingDataSource(database("primary"),
+                List.of(database("replica1"), database("replica2")), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        routing.destroy();
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    public void readWriteGoesToPrimaryTest() {
+        assertEquals("primary", node(false));
+    }
+
+    @Test
+    public void readOnlyRoundRobinsReplicasTest() {
+        assertEquals(List.of("replica1", "replica2", "replica1"), List.of(node(true), node(true), node(true)));
+    }
+
+    @Test
+    public void pinnedReadGoesToPrimaryTest() {
+        ReadYourWrites.pinToPrimary();
+
+        assertEquals("primary", node(true));
+    }
+
+    @Test
+    public void pinIsPropagatedTest() {
+        ReadYourWrites.pinToPrimary();
+        String[] result = new String[1];
+        Runnable task = ReadYourWrites.propagate(() -> result[0] = node(true));
+        ReadYourWrites.clear();
+
+        task.run();
+
+        assertEquals("primary", result[0]);
+        assertEquals("replica1", node(true));
+    }
+
+    @Test
+    public void failingReplicaFallsBackToPrimaryUntilHealthyTest() throws Exception {
+        AtomicBoolean down = new AtomicBoolean(true);
+        DataSource replica = new DelegatingDataSource(database("replica1")) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (down.get())
+                    throw new SQLException("replica down");
+                return super.getConnection();
+            }
+        };
+        routing.destroy();
+        routing = new ReplicaRoutingDataSource(database("primary"), List.of(replica), Duration.ofHours(1));
+
+        assertEquals("primary", node(true));
+        assertEquals(Set.of("replica-0"), routing.unhealthyReplicas());
+        assertEquals("primary", node(true));
+
+        down.set(false);
+        routing.checkReplicas();
+
+        assertTrue(routing.unhealthyReplicas().isEmpty());
+        assertEquals("replica1", node(true));
+    }
+}
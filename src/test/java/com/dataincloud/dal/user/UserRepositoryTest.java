@@ -3,7 +3,9 @@ package com.dataincloud.dal.user;
 import com.dataincloud.api.configuration.BasicConfiguration;
 import com.dataincloud.api.configuration.RepositoryJpaConfiguration;
 import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.core.post.Post;
 import com.dataincloud.core.user.User;
+import com.dataincloud.dal.post.PostRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -12,9 +14,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Calendar;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -24,6 +32,10 @@ import static org.assertj.core.api.Assertions.*;
 class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
 
     private User testingUser;
@@ -58,6 +70,26 @@ class UserRepositoryTest {
                 .contains(createdUser);
     }
 
+    @Test
+    void readUsersPage() {
+        User createdUser = userRepository.create(testingUser);
+
+        List<User> users = userRepository.readPage(createdUser.getId() - 1, 10);
+
+        assertThat(users)
+                .first()
+                .isEqualTo(createdUser);
+    }
+
+    @Test
+    void copyUsers() {
+        long copied = userRepository.copyFrom(Stream.of(testingUser, testingUser));
+
+        assertThat(copied).isEqualTo(2);
+        List<Long> ids = userRepository.readAll().stream().map(User::getId).sorted().toList();
+        assertThat(ids.get(ids.size() - 1) - ids.get(ids.size() - 2)).isEqualTo(1);
+    }
+
     @Test
     void readExistingUserById() {
         User createdUser = userRepository.create(testingUser);
@@ -97,6 +129,80 @@ class UserRepositoryTest {
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    void postCountFollowsPosts() {
+        User createdUser = userRepository.create(testingUser);
+        List<Post> posts = postRepository.createAll(Stream.generate(() -> post(createdUser)).limit(3).toList());
+
+        postRepository.delete(posts.get(0).getId());
+
+        assertThat(userRepository.readById(createdUser.getId()).getPostCount()).isEqualTo(2);
+    }
+
+    @Test
+    void existsUser() {
+        User createdUser = userRepository.create(testingUser);
+
+        assertThat(userRepository.exists(createdUser.getId())).isTrue();
+        assertThat(userRepository.exists(0L)).isFalse();
+
+        userRepository.delete(createdUser.getId());
+
+        assertThat(userRepository.exists(createdUser.getId())).isFalse();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void rolledBackUserDoesNotExist() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User createdUser = transaction.execute(status -> {
+            User user = userRepository.create(testingUser);
+            status.setRollbackOnly();
+            return user;
+        });
+
+        assertThat(userRepository.exists(createdUser.getId())).isFalse();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void existsDuringUncommittedDelete() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User createdUser = transaction.execute(status -> userRepository.create(testingUser));
+
+        Boolean existedDuringDelete = transaction.execute(status -> {
+            userRepository.delete(createdUser.getId());
+            return CompletableFuture.supplyAsync(() -> userRepository.exists(createdUser.getId())).join();
+        });
+
+        assertThat(existedDuringDelete).isTrue();
+        assertThat(userRepository.exists(createdUser.getId())).isFalse();
+    }
+
+    @Test
+    void readUsersByUsernamePrefix() {
+        testingUser.setUsername("prefix_user_b");
+        User second = userRepository.create(testingUser);
+        testingUser.setUsername("prefix_user_a");
+        User first = userRepository.create(testingUser);
+
+        List<User> users = userRepository.readByUsernamePrefix("prefix_user_", 10);
+
+        assertThat(users)
+                .extracting(User::getId)
+                .containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    void readUserByUsername() {
+        User createdUser = userRepository.create(testingUser);
+
+        assertThat(userRepository.readByUsername(testingUser.getUsername()))
+                .returns(createdUser.getId(), from(User::getId));
+        assertThatThrownBy(() -> userRepository.readByUsername("no_such_user"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     void deleteNonExistentUser() {
         Long nonExistentId = 0L;
@@ -104,4 +210,12 @@ class UserRepositoryTest {
         assertThatThrownBy(() -> userRepository.delete(nonExistentId))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
-}
\ No newline at end of file
+
+    private static Post post(User author) {
+        Post post = new Post();
+        post.setHeader("Header");
+        post.setDescription("Description");
+        post.setUser(author);
+        return post;
+    }
+}
@@ -0,0 +1,83 @@
+package com.dataincloud.dal.user;
+
+import com.dataincloud.core.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UsernameTrieTest {
+    private UsernameTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new UsernameTrie();
+        trie.rebuild(Stream.of(user(1L, "romane"), user(2L, "romanus"), user(3L, "romulus"), user(4L, "rubens"),
+                user(5L, "ruber"), user(6L, "rom"), user(7L, "romane")));
+    }
+
+    @Test
+    void findByPrefixInUsernameOrder() {
+        assertThat(trie.findByPrefix("rom", 10))
+                .extracting(User::getId)
+                .containsExactly(6L, 1L, 7L, 2L, 3L);
+        assertThat(trie.findByPrefix("rube", 10))
+                .extracting(User::getUsername)
+                .containsExactly("rubens", "ruber");
+    }
+
+    @Test
+    void findByPrefixEndingInsideEdge() {
+        assertThat(trie.findByPrefix("romu", 10))
+                .extracting(User::getId)
+                .containsExactly(3L);
+        assertThat(trie.findByPrefix("romx", 10)).isEmpty();
+    }
+
+    @Test
+    void findByPrefixRespectsLimit() {
+        assertThat(trie.findByPrefix("r", 2))
+                .extracting(User::getId)
+                .containsExactly(6L, 1L);
+    }
+
+    @Test
+    void findExactSkipsPrefixes() {
+        assertThat(trie.findExact("romane"))
+                .extracting(User::getId)
+                .containsExactly(1L, 7L);
+        assertThat(trie.findExact("roma")).isEmpty();
+        assertThat(trie.findExact("romanes")).isEmpty();
+    }
+
+    @Test
+    void putMovesRenamedUser() {
+        trie.put(user(3L, "rubicon"));
+
+        assertThat(trie.findExact("romulus")).isEmpty();
+        assertThat(trie.findByPrefix("rub", 10))
+                .extracting(User::getUsername)
+                .containsExactly("rubens", "ruber", "rubicon");
+    }
+
+    @Test
+    void removeKeepsSiblingsReachable() {
+        trie.remove(6L);
+        trie.remove(2L);
+        trie.remove(1L);
+
+        assertThat(trie.findByPrefix("rom", 10))
+                .extracting(User::getId)
+                .containsExactly(7L, 3L);
+        assertThat(trie.findExact("rom")).isEmpty();
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
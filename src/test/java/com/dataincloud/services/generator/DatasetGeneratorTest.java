@@ -0,0 +1,111 @@
+package com.dataincloud.services.generator;
+
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.core.profile.IPhotoStore;
+import com.dataincloud.core.profile.Profile;
+import com.dataincloud.dal.memory.InMemoryPostRepository;
+import com.dataincloud.dal.memory.InMemoryProfileRepository;
+import com.dataincloud.dal.memory.InMemoryUserRepository;
+import com.dataincloud.dal.memory.MemoryStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatasetGeneratorTest {
+    private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+    private static final DatasetSpec SPEC = new DatasetSpec(7L, EPOCH, 1000, 10, 1.1, 0.8, 0.1, 1024, 4096, 100);
+
+    @Mock
+    private IPostSearch postSearch;
+    @Mock
+    private IPhotoStore photoStore;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(photoStore.save(any(InputStream.class))).thenReturn("photo");
+    }
+
+    private Generated generate(DatasetSpec spec) {
+        MemoryStore store = new MemoryStore();
+        InMemoryPostRepository postRepository = new InMemoryPostRepository(store);
+        InMemoryProfileRepository profileRepository = new InMemoryProfileRepository(store);
+        DatasetReport report = new DatasetGenerator(new InMemoryUserRepository(store), postRepository,
+                profileRepository, postSearch, photoStore).generate(spec);
+        return new Generated(report, postRepository.readAll(), profileRepository.readAll());
+    }
+
+    @Test
+    void generatesRequestedSizes() {
+        Generated generated = generate(SPEC);
+
+        assertThat(generated.report().users()).isEqualTo(1000);
+        assertThat(generated.report().posts()).isEqualTo(10_000);
+        assertThat(generated.posts()).hasSize(10_000);
+        assertThat(generated.report().profiles()).isEqualTo(generated.profiles().size()).isBetween(700L, 900L);
+        assertThat(generated.profiles()).allSatisfy(profile -> assertThat(profile.getTags()).isNotEmpty());
+        assertThat(generated.posts()).allSatisfy(post -> assertThat(post.getHeader()).hasSizeBetween(4, 64));
+        verify(postSearch).rebuild();
+    }
+
+    @Test
+    void sameSeedGivesSameDataset() {
+        Generated first = generate(SPEC);
+        Generated second = generate(SPEC);
+
+        assertThat(second.posts()).extracting(post -> post.getUser().getId(), Post::getHeader,
+                        post -> post.getCreatedDate().getTimeInMillis())
+                .isEqualTo(first.posts().stream()
+                        .map(post -> tuple(post.getUser().getId(), post.getHeader(),
+                                post.getCreatedDate().getTimeInMillis()))
+                        .toList());
+        assertThat(second.profiles()).extracting(Profile::getUserId, Profile::getTags)
+                .isEqualTo(first.profiles().stream()
+                        .map(profile -> tuple(profile.getUserId(), profile.getTags()))
+                        .toList());
+    }
+
+    @Test
+    void postsPerUserAreSkewed() {
+        Map<Long, Integer> postsPerUser = new HashMap<>();
+        generate(SPEC).posts().forEach(post -> postsPerUser.merge(post.getUser().getId(), 1, Integer::sum));
+        List<Integer> counts = new ArrayList<>(postsPerUser.values());
+        counts.sort(Comparator.reverseOrder());
+
+        int topOnePercent = counts.subList(0, 10).stream().mapToInt(Integer::intValue).sum();
+        assertThat(topOnePercent).isGreaterThan(10_000 / 5);
+    }
+
+    @Test
+    void photosStayWithinMaxSize() {
+        generate(new DatasetSpec(7L, EPOCH, 200, 0, 1.1, 1.0, 1.0, 1024, 4096, 50));
+
+        verify(photoStore, times(200)).save(argThat(content -> {
+            try {
+                return content.readAllBytes().length <= 4096;
+            } catch (IOException e) {
+                return false;
+            }
+        }));
+        verifyNoInteractions(postSearch);
+    }
+
+    private record Generated(DatasetReport report, List<Post> posts, List<Profile> profiles) {
+    }
+}
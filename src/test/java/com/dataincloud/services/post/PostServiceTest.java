@@ -1,5 +1,6 @@
 package com.dataincloud.services.post;
 
+import com.dataincloud.core.post.IPostSearch;
 import com.dataincloud.core.post.Post;
 import com.dataincloud.api.configuration.BasicConfiguration;
 import com.dataincloud.dal.post.PostRepository;
@@ -11,7 +12,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -27,12 +27,16 @@ class PostServiceTest {
     private PostService postService;
     @Mock
     private PostRepository postRepository;
+    @Mock
+    private IPostSearch postSearch;
+    @Mock
+    private PostStream postStream;
     @Autowired
-    private ModelMapper modelMapper;
+    private PostMapper postMapper;
 
     @BeforeEach
     void setUp() {
-        postService = new PostService(postRepository, modelMapper);
+        postService = new PostService(postRepository, postMapper, postSearch, postStream);
     }
 
     @Test
@@ -41,7 +45,7 @@ class PostServiceTest {
         newPostDto.setHeader("Header");
         newPostDto.setDescription("Description");
 
-        Post newPost = modelMapper.map(newPostDto, Post.class);
+        Post newPost = postMapper.toDomain(newPostDto);
 
         when(postRepository.create(newPost)).thenAnswer(invocationOnMock -> {
             Post createdPost = invocationOnMock.getArgument(0);
@@ -93,7 +97,7 @@ class PostServiceTest {
         editedPostDto.setHeader("Header");
         editedPostDto.setDescription("Description");
 
-        Post editedPost = modelMapper.map(editedPostDto, Post.class);
+        Post editedPost = postMapper.toDomain(editedPostDto);
 
         when(postRepository.update(editedPost)).thenReturn(editedPost);
 
@@ -0,0 +1,202 @@
+package com.dataincloud.services.post;
+
+import com.dataincloud.api.configuration.BasicConfiguration;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.dal.memory.InMemoryPostRepository;
+import com.dataincloud.dal.memory.MemoryStore;
+import com.dataincloud.services.post.dto.PostDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = BasicConfiguration.class)
+class PostStreamTest {
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    @Autowired
+    private PostMapper postMapper;
+
+    private InMemoryPostRepository postRepository;
+    private PostStream postStream;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = new InMemoryPostRepository(new MemoryStore());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        postStream.close();
+    }
+
+    @Test
+    void sendsPostsPublishedAfterSubscribing() throws Exception {
+        start(16);
+        publish("Before");
+        RecordingSubscriber subscriber = subscribe(null);
+
+        publish("First");
+        publish("Second");
+
+        assertThat(subscriber.next(2)).extracting(Received::header).containsExactly("First", "Second");
+    }
+
+    @Test
+    void resumesFromRingAfterLastEventId() throws Exception {
+        start(16);
+        RecordingSubscriber first = subscribe(null);
+        publish("Seen");
+        publish("Missed");
+        long seen = first.next(1).get(0).eventId();
+
+        RecordingSubscriber resumed = subscribe(seen);
+
+        assertThat(resumed.next(2)).extracting(Received::header).containsExactly("Missed");
+    }
+
+    @Test
+    void replaysFromRepositoryOnceRingHasOverflowed() throws Exception {
+        start(2);
+        RecordingSubscriber first = subscribe(null);
+        publish("Seen");
+        List<String> missed = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            missed.add("Missed " + i);
+            publish("Missed " + i);
+        }
+        long seen = first.next(1).get(0).eventId();
+
+        RecordingSubscriber resumed = subscribe(seen);
+        publish("Live");
+
+        assertThat(resumed.next(6)).extracting(Received::header).containsExactlyElementsOf(concat(missed, "Live"));
+    }
+
+    @Test
+    void replaysInPublicationOrderRatherThanIdOrder() throws Exception {
+        start(2);
+        RecordingSubscriber first = subscribe(null);
+        PostDto earlier = create("Lower id");
+        PostDto later = create("Higher id");
+        postStream.publish(later);
+        postStream.publish(earlier);
+        publish("Third");
+        publish("Fourth");
+        long seenLater = first.next(1).get(0).eventId();
+
+        RecordingSubscriber resumed = subscribe(seenLater);
+
+        assertThat(resumed.next(4)).extracting(Received::header).containsExactly("Lower id", "Third", "Fourth");
+    }
+
+    @Test
+    void blockedSubscriberDoesNotHoldUpOthers() throws Exception {
+        start(16);
+        CountDownLatch released = new CountDownLatch(1);
+        postStream.subscribe(null, new RecordingSubscriber() {
+            @Override
+            public void send(long eventId, String post) {
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        RecordingSubscriber subscriber = subscribe(null);
+
+        publish("First");
+        publish("Second");
+
+        assertThat(subscriber.next(2)).extracting(Received::header).containsExactly("First", "Second");
+        released.countDown();
+    }
+
+    @Test
+    void cancelledSubscriptionGetsNothing() throws Exception {
+        start(16);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        postStream.subscribe(null, subscriber).cancel();
+
+        publish("Post");
+
+        assertThat(subscriber.next(1)).isEmpty();
+        assertThat(postStream.subscriberCount()).isZero();
+    }
+
+    private void start(int bufferSize) {
+        postStream = new PostStream(postRepository, postMapper, objectMapper, bufferSize, 1024, 1000,
+                Duration.ofSeconds(15));
+        postStream.start();
+    }
+
+    private RecordingSubscriber subscribe(Long lastEventId) {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        postStream.subscribe(lastEventId, subscriber);
+        return subscriber;
+    }
+
+    private PostDto create(String header) {
+        Post post = new Post();
+        post.setHeader(header);
+        return postMapper.toDto(postRepository.create(post));
+    }
+
+    private void publish(String header) {
+        postStream.publish(create(header));
+    }
+
+    private static List<String> concat(List<String> headers, String header) {
+        List<String> all = new ArrayList<>(headers);
+        all.add(header);
+        return all;
+    }
+
+    private record Received(long eventId, String header) {
+    }
+
+    private class RecordingSubscriber implements PostStream.Subscriber {
+        private final BlockingQueue<Received> received = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(long eventId, String post) throws IOException {
+            received.add(new Received(eventId, objectMapper.readValue(post, PostDto.class).getHeader()));
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        List<Received> next(int count) throws InterruptedException {
+            List<Received> next = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Received event = received.poll(1, TimeUnit.SECONDS);
+                if (event == null)
+                    break;
+                next.add(event);
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.dataincloud.services.post;
+
+import com.dataincloud.api.configuration.BasicConfiguration;
+import com.dataincloud.core.exceptions.WriteBufferFullException;
+import com.dataincloud.core.post.IPostSearch;
+import com.dataincloud.core.post.IPostWriteLog;
+import com.dataincloud.core.post.Post;
+import com.dataincloud.dal.memory.InMemoryPostRepository;
+import com.dataincloud.dal.memory.MemoryStore;
+import com.dataincloud.dal.post.FilePostWriteLog;
+import com.dataincloud.services.post.dto.PostCreateDto;
+import com.dataincloud.services.post.dto.PostDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@ContextConfiguration(classes = BasicConfiguration.class)
+class PostWriteBufferTest {
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    @Mock
+    private IPostSearch postSearch;
+    @Mock
+    private PostStream postStream;
+    @Autowired
+    private PostMapper postMapper;
+    @TempDir
+    private Path directory;
+
+    private FlakyPostRepository postRepository;
+    private final List<PostWriteBuffer> buffers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        postRepository = new FlakyPostRepository(new MemoryStore());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (PostWriteBuffer buffer : buffers)
+            buffer.close();
+    }
+
+    @Test
+    void flushesOnceBatchIsFull() {
+        PostWriteBuffer buffer = start(IPostWriteLog.NONE, 100, 3, NEVER);
+
+        List<PostDto> accepted = List.of(
+                buffer.submit(post("Header 1")), buffer.submit(post("Header 2")), buffer.submit(post("Header 3"))
+        );
+
+        verify(postSearch, timeout(5000).times(3)).index(any());
+        assertThat(accepted).extracting(PostDto::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(postRepository.readAll())
+                .extracting(Post::getId, Post::getHeader)
+                .containsExactlyElementsOf(accepted.stream()
+                        .map(post -> tuple(post.getId(), post.getHeader()))
+                        .toList());
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void flushesPartialBatchAfterInterval() {
+        PostWriteBuffer buffer = start(IPostWriteLog.NONE, 100, 50, Duration.ofMillis(20));
+
+        PostDto accepted = buffer.submit(post("Header"));
+
+        verify(postSearch, timeout(5000)).index(any());
+        assertThat(postRepository.readById(accepted.getId()).getHeader()).isEqualTo("Header");
+    }
+
+    @Test
+    void rejectsPostsWhenFull() {
+        PostWriteBuffer buffer = start(IPostWriteLog.NONE, 2, 50, NEVER);
+
+        buffer.submit(post("Header 1"));
+        buffer.submit(post("Header 2"));
+
+        assertThatThrownBy(() -> buffer.submit(post("Header 3")))
+                .isInstanceOf(WriteBufferFullException.class);
+        assertThat(buffer.size()).isEqualTo(2);
+    }
+
+    @Test
+    void closeStoresAcceptedPosts() throws InterruptedException {
+        PostWriteBuffer buffer = start(IPostWriteLog.NONE, 100, 50, NEVER);
+        buffer.submit(post("Header 1"));
+        buffer.submit(post("Header 2"));
+
+        buffer.close();
+
+        assertThat(postRepository.readAll()).extracting(Post::getHeader).containsExactly("Header 1", "Header 2");
+    }
+
+    @Test
+    void startStoresPostsLeftInWriteLog() throws Exception {
+        Path logFile = directory.resolve("posts.wal");
+        PostWriteBuffer crashed = start(writeLog(logFile), 100, 50, NEVER);
+        PostDto stored = crashed.submit(post("Stored"));
+        PostDto lost = crashed.submit(post("Lost"));
+        Post alreadyStored = postMapper.toDomain(stored);
+        postRepository.insertAll(List.of(alreadyStored));
+
+        try (FilePostWriteLog writeLog = writeLog(logFile)) {
+            start(writeLog, 100, 50, NEVER);
+
+            assertThat(postRepository.readAll())
+                    .extracting(Post::getId)
+                    .containsExactly(stored.getId(), lost.getId());
+            assertThat(directory).isEmptyDirectory();
+        }
+    }
+
+    @Test
+    void keepsPostsWhileDatabaseIsDown() throws Exception {
+        Path logFile = directory.resolve("posts.wal");
+        try (FilePostWriteLog writeLog = writeLog(logFile)) {
+            PostWriteBuffer buffer = start(writeLog, 100, 2, Duration.ofMillis(10));
+            postRepository.down = true;
+
+            PostDto first = buffer.submit(post("Header 1"));
+            PostDto second = buffer.submit(post("Header 2"));
+
+            assertThat(postRepository.failures.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(postRepository.readAll()).isEmpty();
+            assertThat(buffer.size()).isEqualTo(2);
+            assertThat(Files.size(directory.resolve("posts.wal.1"))).isPositive();
+
+            postRepository.down = false;
+
+            verify(postSearch, timeout(5000).times(2)).index(any());
+            assertThat(postRepository.readAll())
+                    .extracting(Post::getId)
+                    .containsExactly(first.getId(), second.getId());
+            assertThat(buffer.size()).isZero();
+            assertThat(Files.size(directory.resolve("posts.wal.1"))).isZero();
+        }
+    }
+
+    @Test
+    void dropsOnlyPostsBreakingConstraints() throws Exception {
+        Path logFile = directory.resolve("posts.wal");
+        try (FilePostWriteLog writeLog = writeLog(logFile)) {
+            PostWriteBuffer buffer = start(writeLog, 100, 3, NEVER);
+
+            buffer.submit(post("Header 1"));
+            buffer.submit(post("Broken"));
+            buffer.submit(post("Header 3"));
+
+            verify(postSearch, timeout(5000).times(2)).index(any());
+            assertThat(postRepository.readAll()).extracting(Post::getHeader).containsExactly("Header 1", "Header 3");
+            assertThat(buffer.size()).isZero();
+            assertThat(Files.size(directory.resolve("posts.wal.1"))).isZero();
+        }
+    }
+
+    private FilePostWriteLog writeLog(Path logFile) {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        return new FilePostWriteLog(logFile, objectMapper, true, 1 << 20);
+    }
+
+    private PostWriteBuffer start(IPostWriteLog writeLog, int capacity, int batchSize, Duration flushInterval) {
+        PostWriteBuffer buffer = new PostWriteBuffer(postRepository, postSearch, postMapper, writeLog,
+                postStream, capacity, batchSize, flushInterval);
+        buffer.start();
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    private static PostCreateDto post(String header) {
+        PostCreateDto post = new PostCreateDto();
+        post.setHeader(header);
+        post.setDescription("Description");
+        return post;
+    }
+
+    /**
+     * Fails every insert while {@code down} is set and rejects batches holding a post with the "Broken" header, as a
+     * constraint would.
+     */
+    private static class FlakyPostRepository extends InMemoryPostRepository {
+        private final CountDownLatch failures = new CountDownLatch(2);
+        private volatile boolean down;
+
+        FlakyPostRepository(MemoryStore store) {
+            super(store);
+        }
+
+        @Override
+        public List<Post> insertAll(List<Post> posts) {
+            if (down) {
+                failures.countDown();
+                throw new DataAccessResourceFailureException("Database is down");
+            }
+            if (posts.stream().anyMatch(post -> "Broken".equals(post.getHeader())))
+                throw new DataIntegrityViolationException("Broken post");
+            return super.insertAll(posts);
+        }
+    }
+}
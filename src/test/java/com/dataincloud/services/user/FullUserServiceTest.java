@@ -0,0 +1,121 @@
+package com.dataincloud.services.user;
+
+import com.dataincloud.core.exceptions.ResourceNotFoundException;
+import com.dataincloud.services.profile.ProfileService;
+import com.dataincloud.services.profile.dto.ProfileDto;
+import com.dataincloud.services.user.dto.FullUserDto;
+import com.dataincloud.services.user.dto.UserDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FullUserServiceTest {
+    private static final Duration BRANCH_TIMEOUT = Duration.ofMillis(200);
+
+    @Mock
+    private UserService userService;
+    @Mock
+    private ProfileService profileService;
+
+    private ExecutorService executor;
+    private FullUserService fullUserService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        fullUserService = new FullUserService(userService, profileService, executor, BRANCH_TIMEOUT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void combinesBothStores() {
+        UserDto user = new UserDto();
+        ProfileDto profile = new ProfileDto();
+        when(userService.getById(1L)).thenReturn(user);
+        when(profileService.readById(1L)).thenReturn(profile);
+
+        FullUserDto fullUser = fullUserService.getById(1L);
+
+        assertThat(fullUser.getUser()).isSameAs(user);
+        assertThat(fullUser.getProfile()).isSameAs(profile);
+        assertThat(fullUser.getUnavailable()).isEmpty();
+    }
+
+    @Test
+    void returnsPartialResultWhenBranchIsSlow() {
+        UserDto user = new UserDto();
+        when(userService.getById(1L)).thenReturn(user);
+        when(profileService.readById(1L)).thenAnswer(invocation -> {
+            Thread.sleep(BRANCH_TIMEOUT.multipliedBy(10).toMillis());
+            return new ProfileDto();
+        });
+
+        long started = System.nanoTime();
+        FullUserDto fullUser = fullUserService.getById(1L);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(BRANCH_TIMEOUT.multipliedBy(5));
+        assertThat(fullUser.getUser()).isSameAs(user);
+        assertThat(fullUser.getProfile()).isNull();
+        assertThat(fullUser.getUnavailable()).containsExactly("profile");
+    }
+
+    @Test
+    void leavesLateBranchRunningUninterrupted() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(userService.getById(1L)).thenReturn(new UserDto());
+        when(profileService.readById(1L)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(BRANCH_TIMEOUT.multipliedBy(2).toMillis());
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+            return new ProfileDto();
+        });
+
+        fullUserService.getById(1L);
+
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+    }
+
+    @Test
+    void missingProfileIsNotAnError() {
+        when(userService.getById(1L)).thenReturn(new UserDto());
+        when(profileService.readById(1L)).thenThrow(new ResourceNotFoundException("Profile not found"));
+
+        FullUserDto fullUser = fullUserService.getById(1L);
+
+        assertThat(fullUser.getProfile()).isNull();
+        assertThat(fullUser.getUnavailable()).isEmpty();
+    }
+
+    @Test
+    void missingUserIsNotFound() {
+        when(userService.getById(1L)).thenThrow(new ResourceNotFoundException("User not found"));
+        lenient().when(profileService.readById(1L)).thenThrow(new ResourceNotFoundException("Profile not found"));
+
+        assertThatThrownBy(() -> fullUserService.getById(1L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
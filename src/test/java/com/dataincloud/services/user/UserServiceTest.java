@@ -11,7 +11,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -29,11 +28,11 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
     @Autowired
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
 
     @BeforeEach
     void setUp() {
-        userService = new UserService(userRepository, modelMapper);
+        userService = new UserService(userRepository, userMapper);
 
     }
 
@@ -45,7 +44,7 @@ class UserServiceTest {
         birthDate.set(2003, Calendar.NOVEMBER, 27);
         newUserDto.setBirthDate(birthDate);
 
-        User newUser = modelMapper.map(newUserDto, User.class);
+        User newUser = userMapper.toDomain(newUserDto);
 
         when(userRepository.create(newUser)).thenAnswer(invocation -> {
             User createdUser = invocation.getArgument(0);
@@ -99,7 +98,7 @@ class UserServiceTest {
         birthDate.set(2003, Calendar.NOVEMBER, 27);
         editedUserDto.setBirthDate(birthDate);
 
-        User editedUser = modelMapper.map(editedUserDto, User.class);
+        User editedUser = userMapper.toDomain(editedUserDto);
 
         when(userRepository.update(editedUser)).thenAnswer(invocation -> invocation.getArgument(0));
 